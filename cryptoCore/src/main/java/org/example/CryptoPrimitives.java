@@ -0,0 +1,143 @@
+package org.example;
+
+import javax.crypto.Cipher;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.Signature;
+
+/**
+ * @file CryptoPrimitives.java
+ * @brief Wspólne stałe i współdzielone instancje prymitywów kryptograficznych
+ *
+ * Klasa CryptoPrimitives zbiera w jednym miejscu algorytmy i nazwy plików używane
+ * przez KeyGenerator oraz PdfSigner. Udostępnia też instancje MessageDigest, Signature
+ * (tylko do weryfikacji) i KeyFactory przypisane do wątku, dzięki czemu kolejne operacje
+ * nie wyszukują dostawcy i nie tworzą nowych obiektów przy każdym wywołaniu.
+ *
+ * Instancje, które przechowywałyby klucz prywatny RSA lub klucz AES wyprowadzony z PIN-u
+ * (podpisywanie, szyfr AES), są tworzone przy każdym wywołaniu, aby tajne klucze
+ * nie pozostawały w pamięci wątku po zakończeniu operacji.
+ *
+ * @note Zwracane instancje należą do bieżącego wątku - nie wolno przekazywać ich
+ *       do innych wątków ani używać dwóch naraz w zagnieżdżonych wywołaniach.
+ *       Każda operacja musi zainicjować instancję (init/initSign/initVerify) przed użyciem.
+ */
+public final class CryptoPrimitives {
+
+    /** @brief Rozmiar klucza RSA w bitach */
+    public static final int RSA_KEY_SIZE = 4096;
+
+    /** @brief Algorytm haszowania używany do podpisów i generowania klucza AES */
+    public static final String HASH_ALGORITHM = "SHA-256";
+
+    /** @brief Algorytm podpisu cyfrowego */
+    public static final String SIGNATURE_ALGORITHM = "SHA256withRSA";
+
+    /** @brief Algorytm szyfrowania symetrycznego */
+    public static final String AES_ALGORITHM = "AES";
+
+    /** @brief Algorytm kryptografii asymetrycznej */
+    public static final String RSA_ALGORITHM = "RSA";
+
+    /** @brief Nazwa pliku z zaszyfrowanym kluczem prywatnym */
+    public static final String PRIVATE_KEY_FILE = "private_key.enc";
+
+    /** @brief Nazwa pliku z kluczem publicznym */
+    public static final String PUBLIC_KEY_FILE = "public_key.pem";
+
+    /** @brief Instancje SHA-256 przypisane do wątków */
+    private static final ThreadLocal<MessageDigest> DIGEST =
+            ThreadLocal.withInitial(() -> create(() -> MessageDigest.getInstance(HASH_ALGORITHM)));
+
+    /** @brief Instancje SHA256withRSA do weryfikacji przypisane do wątków */
+    private static final ThreadLocal<Signature> VERIFY_SIGNATURE =
+            ThreadLocal.withInitial(() -> create(() -> Signature.getInstance(SIGNATURE_ALGORITHM)));
+
+    /** @brief Instancje fabryki kluczy RSA przypisane do wątków */
+    private static final ThreadLocal<KeyFactory> RSA_KEY_FACTORY =
+            ThreadLocal.withInitial(() -> create(() -> KeyFactory.getInstance(RSA_ALGORITHM)));
+
+    private CryptoPrimitives() {
+    }
+
+    /**
+     * @brief Zwraca instancję SHA-256 bieżącego wątku w stanie początkowym
+     *
+     * @return MessageDigest - wyzerowana instancja funkcji skrótu
+     */
+    public static MessageDigest digest() {
+        MessageDigest digest = DIGEST.get();
+        digest.reset();
+        return digest;
+    }
+
+    /**
+     * @brief Zwraca instancję SHA256withRSA bieżącego wątku do weryfikacji podpisów
+     *
+     * Instancja przechowuje jedynie klucz publiczny, więc może być używana wielokrotnie.
+     *
+     * @return Signature - instancja wymagająca wywołania initVerify
+     */
+    public static Signature verifySignature() {
+        return VERIFY_SIGNATURE.get();
+    }
+
+    /**
+     * @brief Tworzy nową instancję SHA256withRSA do podpisywania
+     *
+     * Instancja nie jest współdzielona - po podpisaniu klucz prywatny
+     * przestaje być osiągalny razem z nią.
+     *
+     * @return Signature - instancja wymagająca wywołania initSign
+     */
+    public static Signature signSignature() {
+        return create(() -> Signature.getInstance(SIGNATURE_ALGORITHM));
+    }
+
+    /**
+     * @brief Tworzy nową instancję szyfru AES
+     *
+     * Instancja nie jest współdzielona, aby klucz wyprowadzony z PIN-u
+     * nie pozostawał w pamięci wątku po operacji.
+     *
+     * @return Cipher - instancja wymagająca wywołania init
+     */
+    public static Cipher aesCipher() {
+        return create(() -> Cipher.getInstance(AES_ALGORITHM));
+    }
+
+    /**
+     * @brief Zwraca fabrykę kluczy RSA bieżącego wątku
+     *
+     * @return KeyFactory - fabryka kluczy RSA
+     */
+    public static KeyFactory rsaKeyFactory() {
+        return RSA_KEY_FACTORY.get();
+    }
+
+    /**
+     * @brief Fabryka prymitywu, która może zgłosić wyjątek kryptograficzny
+     */
+    @FunctionalInterface
+    private interface Factory<T> {
+        T create() throws GeneralSecurityException;
+    }
+
+    /**
+     * @brief Tworzy prymityw, zamieniając wyjątek kryptograficzny na IllegalStateException
+     *
+     * Wszystkie używane algorytmy są obowiązkowe w każdej implementacji Javy,
+     * więc ich brak oznacza błędnie skonfigurowane środowisko.
+     *
+     * @param factory Fabryka prymitywu
+     * @return T - utworzony prymityw
+     */
+    private static <T> T create(Factory<T> factory) {
+        try {
+            return factory.create();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Algorytm niedostępny: " + e.getMessage(), e);
+        }
+    }
+}
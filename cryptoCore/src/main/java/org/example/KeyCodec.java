@@ -0,0 +1,105 @@
+package org.example;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+/**
+ * @file KeyCodec.java
+ * @brief Kodowanie i dekodowanie kluczy RSA używane przez KeyGenerator i PdfSigner
+ *
+ * Klasa KeyCodec jest jedynym miejscem, w którym zdefiniowano format plików z kluczami:
+ * - klucz prywatny: PKCS#8 zaszyfrowany AES kluczem SHA-256(PIN), zapisany w Base64
+ * - klucz publiczny: X.509 zapisany w Base64
+ * - odcisk klucza publicznego: SHA-256 z postaci X.509
+ *
+ * @see CryptoPrimitives
+ */
+public final class KeyCodec {
+
+    private KeyCodec() {
+    }
+
+    /**
+     * @brief Generuje klucz AES na podstawie PIN-u przy użyciu funkcji skrótu SHA-256
+     *
+     * @param pin PIN służący do generowania klucza AES
+     * @return SecretKey - klucz AES wygenerowany z PIN-u
+     */
+    public static SecretKey deriveAesKey(String pin) {
+        byte[] key = CryptoPrimitives.digest().digest(pin.getBytes(StandardCharsets.UTF_8));
+        return new SecretKeySpec(key, CryptoPrimitives.AES_ALGORITHM);
+    }
+
+    /**
+     * @brief Szyfruje klucz prywatny przy użyciu PIN-u i algorytmu AES
+     *
+     * @param privateKey Klucz prywatny RSA do zaszyfrowania
+     * @param pin PIN służący do generowania klucza szyfrującego AES
+     * @return String - zaszyfrowany klucz prywatny zakodowany w Base64
+     * @throws GeneralSecurityException W przypadku błędów kryptograficznych
+     */
+    public static String encryptPrivateKey(PrivateKey privateKey, String pin) throws GeneralSecurityException {
+        Cipher cipher = CryptoPrimitives.aesCipher();
+        cipher.init(Cipher.ENCRYPT_MODE, deriveAesKey(pin));
+        return Base64.getEncoder().encodeToString(cipher.doFinal(privateKey.getEncoded()));
+    }
+
+    /**
+     * @brief Odszyfrowuje klucz prywatny zapisany przez encryptPrivateKey
+     *
+     * @param encryptedPrivateKey Zawartość pliku z zaszyfrowanym kluczem (Base64)
+     * @param pin PIN służący do odszyfrowania klucza
+     * @return PrivateKey - odszyfrowany klucz prywatny RSA
+     * @throws GeneralSecurityException W przypadku błędnego PIN-u lub uszkodzonego klucza
+     *
+     * @see #encryptPrivateKey(PrivateKey, String)
+     */
+    public static PrivateKey decryptPrivateKey(byte[] encryptedPrivateKey, String pin) throws GeneralSecurityException {
+        Cipher cipher = CryptoPrimitives.aesCipher();
+        cipher.init(Cipher.DECRYPT_MODE, deriveAesKey(pin));
+        byte[] privateKeyBytes = cipher.doFinal(Base64.getMimeDecoder().decode(encryptedPrivateKey));
+        return CryptoPrimitives.rsaKeyFactory().generatePrivate(new PKCS8EncodedKeySpec(privateKeyBytes));
+    }
+
+    /**
+     * @brief Koduje klucz publiczny do formatu zapisywanego w pliku PEM
+     *
+     * @param publicKey Klucz publiczny RSA
+     * @return String - klucz publiczny X.509 zakodowany w Base64
+     */
+    public static String encodePublicKey(PublicKey publicKey) {
+        return Base64.getEncoder().encodeToString(publicKey.getEncoded());
+    }
+
+    /**
+     * @brief Oblicza odcisk klucza publicznego - SHA-256 z jego postaci X.509
+     *
+     * @param publicKey Klucz publiczny RSA
+     * @return byte[] - 32-bajtowy odcisk klucza
+     */
+    public static byte[] fingerprint(PublicKey publicKey) {
+        return CryptoPrimitives.digest().digest(publicKey.getEncoded());
+    }
+
+    /**
+     * @brief Dekoduje klucz publiczny zapisany przez encodePublicKey
+     *
+     * @param encodedPublicKey Zawartość pliku z kluczem publicznym (Base64)
+     * @return PublicKey - klucz publiczny RSA
+     * @throws GeneralSecurityException W przypadku uszkodzonego klucza
+     *
+     * @see #encodePublicKey(PublicKey)
+     */
+    public static PublicKey decodePublicKey(String encodedPublicKey) throws GeneralSecurityException {
+        byte[] publicKeyBytes = Base64.getMimeDecoder().decode(encodedPublicKey);
+        return CryptoPrimitives.rsaKeyFactory().generatePublic(new X509EncodedKeySpec(publicKeyBytes));
+    }
+}
@@ -3,12 +3,7 @@ package org.example;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.security.*;
-import javax.crypto.Cipher;
-import javax.crypto.SecretKey;
-import javax.crypto.spec.SecretKeySpec;
-import java.util.Base64;
 import java.nio.file.*;
-import java.security.MessageDigest;
 
 /**
  * @file KeyGenerator.java
@@ -17,27 +12,12 @@ import java.security.MessageDigest;
  * Klasa KeyGenerator umożliwia generowanie par kluczy RSA, szyfrowanie klucza prywatnego
  * przy użyciu PIN-u.
  * Klucz publiczny jest zapisywany lokalnie, a zaszyfrowany klucz prywatny na pendrive.
+ *
+ * @see CryptoPrimitives
+ * @see KeyCodec
  */
 public class KeyGenerator {
 
-    /** @brief Rozmiar klucza RSA w bitach */
-    private static final int RSA_KEY_SIZE = 4096;
-
-    /** @brief Algorytm haszowania używany do generowania klucza AES */
-    private static final String HASH_ALGORITHM = "SHA-256";
-
-    /** @brief Algorytm szyfrowania symetrycznego */
-    private static final String AES_ALGORITHM = "AES";
-
-    /** @brief Algorytm kryptografii asymetrycznej */
-    private static final String RSA_ALGORITHM = "RSA";
-
-    /** @brief Nazwa pliku z zaszyfrowanym kluczem prywatnym */
-    private static final String PRIVATE_KEY_FILE = "private_key.enc";
-
-    /** @brief Nazwa pliku z kluczem publicznym */
-    private static final String PUBLIC_KEY_FILE = "public_key.pem";
-
     /**
      * @brief Wykrywa katalog główny pendrive lub innego nośnika zewnętrznego
      *
@@ -72,20 +52,41 @@ public class KeyGenerator {
      *
      * @see #detectPendriveRoot()
      * @see #generateRSAKeyPair()
-     * @see #encryptPrivateKey(PrivateKey, String)
+     * @see #generateKeys(String, KeyPair)
      */
     public void generateKeys(String PIN) throws Exception {
-        File pendriveRoot = detectPendriveRoot();
-        if (pendriveRoot == null) {
+        if (detectPendriveRoot() == null) {
             System.out.println("Pendrive not found");
             return;
         }
 
-        KeyPair keyPair = generateRSAKeyPair();
-        String encryptedPrivateKey = encryptPrivateKey(keyPair.getPrivate(), PIN);
+        generateKeys(PIN, generateRSAKeyPair());
+    }
 
-        saveToFile(new File(pendriveRoot, PRIVATE_KEY_FILE).getAbsolutePath(), encryptedPrivateKey);
-        saveToFile(PUBLIC_KEY_FILE, Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+    /**
+     * @brief Szyfruje i zapisuje podaną, wcześniej wygenerowaną parę kluczy RSA
+     *
+     * Pozwala wygenerować parę kluczy z wyprzedzeniem (np. w tle po otwarciu okna),
+     * tak aby po podaniu PIN-u pozostało tylko szybkie szyfrowanie i zapis plików.
+     *
+     * @param PIN PIN służący do szyfrowania klucza prywatnego
+     * @param keyPair Para kluczy RSA do zapisania
+     * @throws FileNotFoundException Jeśli nie znaleziono pendrive
+     * @throws Exception W przypadku błędów kryptograficznych lub I/O
+     *
+     * @see #generateKeys(String)
+     * @see #generateRSAKeyPair()
+     */
+    public void generateKeys(String PIN, KeyPair keyPair) throws Exception {
+        File pendriveRoot = detectPendriveRoot();
+        if (pendriveRoot == null) {
+            throw new FileNotFoundException("Nie znaleziono pendrive");
+        }
+
+        String encryptedPrivateKey = KeyCodec.encryptPrivateKey(keyPair.getPrivate(), PIN);
+
+        saveToFile(new File(pendriveRoot, CryptoPrimitives.PRIVATE_KEY_FILE).getAbsolutePath(), encryptedPrivateKey);
+        saveToFile(CryptoPrimitives.PUBLIC_KEY_FILE, KeyCodec.encodePublicKey(keyPair.getPublic()));
 
         System.out.println("RSA keys generated and saved to: " + pendriveRoot.getAbsolutePath());
     }
@@ -94,7 +95,7 @@ public class KeyGenerator {
      * @brief Generuje parę kluczy RSA o określonym rozmiarze
      *
      * Metoda tworzy nową parę kluczy RSA składającą się z klucza publicznego
-     * i prywatnego o rozmiarze zdefiniowanym w RSA_KEY_SIZE.
+     * i prywatnego o rozmiarze zdefiniowanym w CryptoPrimitives.RSA_KEY_SIZE.
      *
      * @return KeyPair - para kluczy RSA (publiczny i prywatny)
      * @throws NoSuchAlgorithmException W przypadku braku dostępności algorytmu RSA
@@ -102,51 +103,11 @@ public class KeyGenerator {
      * @see #generateKeys(String)
      */
     public KeyPair generateRSAKeyPair() throws NoSuchAlgorithmException {
-        KeyPairGenerator keyGen = KeyPairGenerator.getInstance(RSA_ALGORITHM);
-        keyGen.initialize(RSA_KEY_SIZE);
+        KeyPairGenerator keyGen = KeyPairGenerator.getInstance(CryptoPrimitives.RSA_ALGORITHM);
+        keyGen.initialize(CryptoPrimitives.RSA_KEY_SIZE);
         return keyGen.generateKeyPair();
     }
 
-    /**
-     * @brief Szyfruje klucz prywatny przy użyciu PIN-u i algorytmu AES
-     *
-     * Metoda generuje klucz AES na podstawie PIN-u (przy użyciu SHA-256),
-     * następnie szyfruje klucz prywatny RSA.
-     *
-     * @param privateKey Klucz prywatny RSA do zaszyfrowania
-     * @param pin PIN służący do generowania klucza szyfrującego AES
-     * @return String - zaszyfrowany klucz prywatny zakodowany w Base64
-     * @throws Exception W przypadku błędów kryptograficznych
-     *
-     * @see #generateAESKey(String)
-     * @see #generateKeys(String)
-     */
-    private static String encryptPrivateKey(PrivateKey privateKey, String pin) throws Exception {
-        SecretKey aesKey = generateAESKey(pin);
-        Cipher cipher = Cipher.getInstance(AES_ALGORITHM);
-        cipher.init(Cipher.ENCRYPT_MODE, aesKey);
-        byte[] encryptedKey = cipher.doFinal(privateKey.getEncoded());
-        return Base64.getEncoder().encodeToString(encryptedKey);
-    }
-
-    /**
-     * @brief Generuje klucz AES na podstawie PIN-u przy użyciu funkcji skrótu SHA-256
-     *
-     * Metoda tworzy hash SHA-256 z PIN-u i używa go jako klucza AES
-     * do szyfrowania klucza prywatnego RSA.
-     *
-     * @param pin PIN służący do generowania klucza AES
-     * @return SecretKey - klucz AES wygenerowany z PIN-u
-     * @throws Exception W przypadku błędu algorytmu haszowania
-     *
-     * @see #encryptPrivateKey(PrivateKey, String)
-     */
-    private static SecretKey generateAESKey(String pin) throws Exception {
-        MessageDigest sha = MessageDigest.getInstance(HASH_ALGORITHM);
-        byte[] key = sha.digest(pin.getBytes(StandardCharsets.UTF_8));
-        return new SecretKeySpec(key, AES_ALGORITHM);
-    }
-
     /**
      * @brief Zapisuje dane tekstowe do pliku
      *
@@ -157,7 +118,7 @@ public class KeyGenerator {
      * @param data Dane tekstowe do zapisania
      * @throws IOException W przypadku błędów operacji I/O
      *
-     * @see #generateKeys(String)
+     * @see #generateKeys(String, KeyPair)
      */
     private static void saveToFile(String filePath, String data) throws IOException {
         Files.write(Paths.get(filePath), data.getBytes(StandardCharsets.UTF_8));
@@ -4,6 +4,13 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.security.KeyPair;
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.swing.border.EmptyBorder;
 
 /**
@@ -13,6 +20,10 @@ import javax.swing.border.EmptyBorder;
  * Klasa KeyGeneratorGUI zapewnia intuicyjny interfejs graficzny oparty na Swing
  * do generowania par kluczy RSA. Umożliwia użytkownikowi wprowadzenie PIN-u
  * i wygenerowanie zaszyfrowanych kluczy.
+ *
+ * Generowanie pary kluczy RSA-4096 trwa kilka sekund, dlatego jest uruchamiane
+ * w tle od razu po otwarciu okna. Po kliknięciu "Generuj" pozostaje tylko
+ * zaszyfrowanie klucza prywatnego i zapis plików, wykonywane poza wątkiem EDT.
  */
 public class KeyGeneratorGUI {
 
@@ -37,6 +48,19 @@ public class KeyGeneratorGUI {
     /** @brief Odstępy między komponentami interfejsu */
     private static final int COMPONENT_SPACING = 10;
 
+    /** @brief Wątek generujący pary kluczy RSA z wyprzedzeniem */
+    private static final ExecutorService KEY_PAIR_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "rsa-key-pair-precompute");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** @brief Generator kluczy używany przez okno */
+    private static final KeyGenerator KEY_GENERATOR = new KeyGenerator();
+
+    /** @brief Para kluczy generowana z wyprzedzeniem (dostęp tylko z wątku EDT) */
+    private static Future<KeyPair> pendingKeyPair;
+
     /**
      * @brief Główna metoda aplikacji GUI
      *
@@ -55,11 +79,13 @@ public class KeyGeneratorGUI {
      * 1. Konfiguruje główne okno aplikacji
      * 2. Tworzy i stylizuje komponenty interfejsu
      * 3. Układa komponenty przy użyciu GridBagLayout
-     * 4. Konfiguruje obsługę zdarzeń przycisku
+     * 4. Konfiguruje obsługę zdarzeń przycisków
      * 5. Wyświetla okno w centrum ekranu
+     * 6. Rozpoczyna generowanie pary kluczy w tle
      *
      * @see #main(String[])
-     * @see #setupButtonActionListener(JButton, JTextField, JLabel)
+     * @see #setupButtonActionListener(JButton, JButton, JPasswordField, JProgressBar, JLabel)
+     * @see #precomputeKeyPair()
      */
     public static void createAndShowGUI() {
         JFrame frame = new JFrame("BSK - KeyGenerator");
@@ -71,10 +97,17 @@ public class KeyGeneratorGUI {
         panel.setBorder(new EmptyBorder(PANEL_PADDING, PANEL_PADDING, PANEL_PADDING, PANEL_PADDING));
 
         JLabel pinLabel = new JLabel("Wprowadź PIN:");
-        JTextField pinField = new JTextField(PIN_FIELD_WIDTH);
+        JPasswordField pinField = new JPasswordField(PIN_FIELD_WIDTH);
         JButton generateButton = new JButton("Generuj");
         generateButton.setBackground(BUTTON_COLOR);
         generateButton.setForeground(Color.WHITE);
+        JButton cancelButton = new JButton("Anuluj");
+        cancelButton.setBackground(BUTTON_COLOR);
+        cancelButton.setForeground(Color.WHITE);
+        cancelButton.setEnabled(false);
+        JProgressBar progressBar = new JProgressBar();
+        progressBar.setIndeterminate(true);
+        progressBar.setVisible(false);
         JLabel statusLabel = new JLabel("Status: ");
         JLabel statusText = new JLabel("");
 
@@ -110,34 +143,82 @@ public class KeyGeneratorGUI {
         gbc.gridwidth = 2;
         panel.add(statusText, gbc);
 
+        // wiersz 3 - postęp generowania i przycisk anuluj
+        gbc.gridx = 1;
+        gbc.gridy = 2;
+        gbc.gridwidth = 2;
+        panel.add(progressBar, gbc);
+
+        gbc.gridx = 3;
+        gbc.gridy = 2;
+        gbc.gridwidth = 1;
+        panel.add(cancelButton, gbc);
+
         frame.add(panel);
         frame.setLocationRelativeTo(null);
         frame.setVisible(true);
 
-        setupButtonActionListener(generateButton, pinField, statusText);
+        setupButtonActionListener(generateButton, cancelButton, pinField, progressBar, statusText);
+        precomputeKeyPair();
+    }
+
+    /**
+     * @brief Rozpoczyna generowanie nowej pary kluczy RSA w tle
+     *
+     * Każda para jest użyta najwyżej raz - po zapisaniu kluczy
+     * od razu zaczyna się generowanie kolejnej.
+     *
+     * @see KeyGenerator#generateRSAKeyPair()
+     */
+    private static void precomputeKeyPair() {
+        pendingKeyPair = KEY_PAIR_EXECUTOR.submit(KEY_GENERATOR::generateRSAKeyPair);
     }
 
     /**
-     * @brief Konfiguruje obsługę zdarzenia kliknięcia przycisku "Generuj"
+     * @brief Konfiguruje obsługę zdarzeń przycisków "Generuj" i "Anuluj"
      *
-     * Metoda tworzy i przypisuje ActionListener do przycisku generowania kluczy.
-     * Listener wykonuje następujące operacje:
+     * Listener przycisku generowania wykonuje następujące operacje:
      * 1. Waliduje wprowadzony PIN (nie może być pusty)
-     * 2. Wywołuje generator kluczy z podanym PIN-em
-     * 3. Wyświetla komunikat o sukcesie lub błędzie
+     * 2. W tle czeka na parę kluczy wygenerowaną z wyprzedzeniem
+     * 3. Szyfruje i zapisuje klucze z podanym PIN-em
+     * 4. Wyświetla komunikat o sukcesie lub błędzie
+     *
+     * Na czas operacji wyświetlany jest pasek postępu, a przycisk "Anuluj"
+     * przerywa oczekiwanie na parę kluczy. Niewykorzystana para pozostaje
+     * przygotowana dla następnej próby. Po rozpoczęciu zapisu plików anulowanie
+     * nie jest już możliwe - przycisk jest wyłączany, aby nie zgłosić anulowania
+     * po nadpisaniu kluczy.
      *
      * @param generateButton Przycisk "Generuj" do którego przypisywany jest listener
-     * @param pinField Pole tekstowe zawierające PIN wprowadzony przez użytkownika
+     * @param cancelButton Przycisk "Anuluj" przerywający generowanie
+     * @param pinField Pole hasła zawierające PIN wprowadzony przez użytkownika
+     * @param progressBar Pasek postępu widoczny w trakcie generowania
      * @param statusText Etykieta do wyświetlania komunikatów statusu i błędów
      *
-     * @note Używa instancji KeyGenerator do generowania kluczy
-     * @see KeyGenerator#generateKeys(String)
+     * @see KeyGenerator#generateKeys(String, KeyPair)
      * @see #createAndShowGUI()
      */
-    private static void setupButtonActionListener(JButton generateButton, JTextField pinField, JLabel statusText) {
+    private static void setupButtonActionListener(JButton generateButton, JButton cancelButton, JPasswordField pinField,
+                                                  JProgressBar progressBar, JLabel statusText) {
         generateButton.addActionListener(new ActionListener() {
-            /** @brief Instancja generatora kluczy używana do tworzenia par kluczy RSA */
-            KeyGenerator keyGenerator = new KeyGenerator();
+            /** @brief Zadanie zapisujące klucze, aktywne do czasu jego zakończenia */
+            SwingWorker<Void, Void> worker;
+
+            /** @brief Blokada rozstrzygająca między anulowaniem a rozpoczęciem zapisu */
+            final Object writeLock = new Object();
+
+            /** @brief Czy bieżące zadanie rozpoczęło zapis plików (chronione przez writeLock) */
+            boolean writing;
+
+            {
+                cancelButton.addActionListener(event -> {
+                    synchronized (writeLock) {
+                        if (worker != null && !writing) {
+                            worker.cancel(true);
+                        }
+                    }
+                });
+            }
 
             /**
              * @brief Obsługuje zdarzenie kliknięcia przycisku generowania
@@ -146,21 +227,80 @@ public class KeyGeneratorGUI {
              */
             @Override
             public void actionPerformed(ActionEvent e) {
-                String pin = pinField.getText();
-                if (!pin.isEmpty()) {
-                    try {
-                        keyGenerator.generateKeys(pin);
-                        statusText.setText("Klucze zostały wygenerowane! ");
-                        statusText.setForeground(Color.BLACK);
-                    } catch (Exception ex) {
-                        statusText.setText("Wystąpił błąd: " + ex.getMessage());
-                        statusText.setForeground(Color.RED);
-                    }
-                } else {
+                char[] pinChars = pinField.getPassword();
+                if (pinChars.length == 0) {
                     statusText.setText("PIN nie może być pusty!");
                     statusText.setForeground(Color.RED);
+                    return;
+                }
+                String pin = new String(pinChars);
+                Arrays.fill(pinChars, '\0');
+
+                Future<KeyPair> keyPair = pendingKeyPair;
+                synchronized (writeLock) {
+                    writing = false;
                 }
+                worker = new SwingWorker<Void, Void>() {
+                    @Override
+                    protected Void doInBackground() throws Exception {
+                        KeyPair pair = keyPair.get();
+                        synchronized (writeLock) {
+                            if (isCancelled()) {
+                                return null;
+                            }
+                            writing = true;
+                        }
+                        SwingUtilities.invokeLater(() -> {
+                            cancelButton.setEnabled(false);
+                            statusText.setText("Zapisywanie kluczy...");
+                        });
+                        KEY_GENERATOR.generateKeys(pin, pair);
+                        return null;
+                    }
+
+                    @Override
+                    protected void done() {
+                        setRunning(false);
+                        try {
+                            get();
+                            pinField.setText("");
+                            precomputeKeyPair();
+                            statusText.setText("Klucze zostały wygenerowane! ");
+                            statusText.setForeground(Color.BLACK);
+                        } catch (CancellationException ex) {
+                            // anulowanie jest możliwe tylko przed zapisem - para pozostaje niewykorzystana
+                            statusText.setText("Generowanie anulowane");
+                            statusText.setForeground(Color.BLACK);
+                        } catch (InterruptedException | ExecutionException ex) {
+                            Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                            if (cause instanceof ExecutionException) {
+                                // nie udało się wygenerować pary kluczy - przygotuj nową
+                                cause = cause.getCause();
+                                precomputeKeyPair();
+                            }
+                            statusText.setText("Wystąpił błąd: " + cause.getMessage());
+                            statusText.setForeground(Color.RED);
+                        }
+                    }
+                };
+
+                statusText.setText(keyPair.isDone() ? "Zapisywanie kluczy..." : "Generowanie kluczy...");
+                statusText.setForeground(Color.BLUE);
+                setRunning(true);
+                worker.execute();
+            }
+
+            /**
+             * @brief Przełącza stan przycisków i paska postępu
+             *
+             * @param running Czy generowanie jest w toku
+             */
+            private void setRunning(boolean running) {
+                generateButton.setEnabled(!running);
+                pinField.setEnabled(!running);
+                cancelButton.setEnabled(running);
+                progressBar.setVisible(running);
             }
         });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,175 @@
+package org.example;
+
+import java.io.Console;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * @file BatchJob.java
+ * @brief Wznawialne podpisywanie lub weryfikacja wszystkich dokumentów PDF w katalogu
+ *
+ * Klasa BatchJob przetwarza rekurencyjnie wszystkie pliki PDF w katalogu przy użyciu
+ * puli wątków, zapisując wynik każdego pliku w dzienniku JobJournal. Jeśli zadanie
+ * zostanie przerwane (brak pamięci, restart, wyjęty pendrive), ponowne uruchomienie
+ * odtwarza dziennik i pomija pliki już przetworzone. Wynikiem zapisywanym w dzienniku
+ * jest nazwa SignatureResult.Status; pliki zakończone błędem I/O lub nieoczekiwanym błędem
+ * są przy wznowieniu przetwarzane ponownie.
+ *
+ * Przy podpisywaniu wynik trafia do dziennika dopiero po zapisaniu pliku .sig na dysk -
+ * pliki .sig całej partii są synchronizowane grupowo przed jednym fsync dziennika. Jeśli wszystkie pliki zostały przetworzone bez błędów przejściowych,
+ * dziennik jest oznaczany jako zakończony (JobJournal#complete) i kolejne uruchomienie
+ * zaczyna zadanie od nowa; w przeciwnym razie jest kompaktowany i pozostaje do wznowienia.
+ *
+ * Przykład uruchomienia:
+ * @code
+ * java org.example.BatchJob sign /archiwum
+ * java org.example.BatchJob verify /archiwum threads=8 journal=/tmp/verify.journal
+ * @endcode
+ *
+ * @see JobJournal
+ */
+public class BatchJob {
+
+    /**
+     * @brief Główna metoda zadania
+     *
+     * Argumenty: tryb (sign lub verify), katalog oraz opcjonalnie:
+     * - threads - liczba wątków roboczych (domyślnie liczba rdzeni)
+     * - journal - ścieżka do dziennika (domyślnie .pdfsigner-{tryb}.journal w katalogu)
+     *
+     * Przy podpisywaniu PIN jest odczytywany z konsoli.
+     *
+     * @param args Argumenty wiersza poleceń
+     * @throws Exception W przypadku błędów kryptograficznych lub I/O
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2 || !(args[0].equals("sign") || args[0].equals("verify"))) {
+            System.err.println("Użycie: BatchJob sign|verify <katalog> [threads=n] [journal=plik]");
+            System.exit(2);
+        }
+
+        boolean sign = args[0].equals("sign");
+        Path directory = Paths.get(args[1]).toAbsolutePath().normalize();
+        int threads = Runtime.getRuntime().availableProcessors();
+        Path journalPath = directory.resolve(".pdfsigner-" + args[0] + ".journal");
+
+        for (int i = 2; i < args.length; i++) {
+            if (args[i].startsWith("threads=")) {
+                threads = Integer.parseInt(args[i].substring("threads=".length()));
+            } else if (args[i].startsWith("journal=")) {
+                journalPath = Paths.get(args[i].substring("journal=".length()));
+            } else {
+                throw new IllegalArgumentException("Nieznany argument: " + args[i]);
+            }
+        }
+
+        Function<Path, SignatureResult> operation;
+        if (sign) {
+            Console console = System.console();
+            if (console == null) {
+                System.err.println("Brak konsoli do wprowadzenia PIN-u");
+                System.exit(2);
+            }
+            operation = new Signer(PdfSigner.unlockPrivateKey(new String(console.readPassword("Wprowadź PIN: "))))::sign;
+        } else {
+            operation = new Verifier(PdfSigner.loadPublicKey())::verify;
+        }
+
+        try (JobJournal journal = new JobJournal(journalPath)) {
+            if (journal.size() > 0) {
+                System.out.println("Wznawianie przerwanego zadania z dziennika " + journalPath);
+            }
+            if (run(directory, journal, threads, operation, sign)) {
+                journal.complete();
+            } else {
+                journal.compact();
+                System.out.println("Dziennik zachowany - ponowne uruchomienie przetworzy pliki z błędami");
+            }
+        }
+    }
+
+    /**
+     * @brief Przetwarza pliki z katalogu, pomijając pliki zapisane już w dzienniku
+     *
+     * @param directory Katalog z dokumentami PDF
+     * @param journal Dziennik postępu
+     * @param threads Liczba wątków roboczych
+     * @param operation Podpisywanie lub weryfikacja pojedynczego pliku
+     * @param sign Czy operacja zapisuje pliki .sig, które muszą trafić na dysk przed wpisem
+     * @return true - jeśli żaden plik nie wymaga ponownego przetworzenia
+     * @throws IOException W przypadku błędu przeszukiwania katalogu
+     * @throws InterruptedException W przypadku przerwania oczekiwania na zakończenie
+     */
+    private static boolean run(Path directory, JobJournal journal, int threads,
+                               Function<Path, SignatureResult> operation, boolean sign)
+            throws IOException, InterruptedException {
+        List<String> files;
+        try (Stream<Path> paths = Files.walk(directory)) {
+            files = paths.filter(Files::isRegularFile)
+                    .map(Path::toString)
+                    .filter(name -> name.toLowerCase(Locale.ROOT).endsWith(".pdf"))
+                    .collect(Collectors.toList());
+        }
+        List<String> pending = files.stream()
+                .filter(name -> !journal.isRecorded(name) || isRetryable(journal.outcome(name)))
+                .collect(Collectors.toList());
+        System.out.println("Pominięto przetworzone wcześniej: " + (files.size() - pending.size())
+                + ", do przetworzenia: " + pending.size());
+
+        AtomicInteger ok = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger unrecorded = new AtomicInteger();
+        long start = System.nanoTime();
+
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        for (String file : pending) {
+            workers.execute(() -> {
+                try {
+                    Path pdfFile = Paths.get(file);
+                    SignatureResult result = operation.apply(pdfFile);
+                    Path output = sign && result.isSuccess() ? PdfSigner.signaturePath(pdfFile) : null;
+                    journal.record(file, result.getStatus().name(), output);
+                    (result.isSuccess() ? ok : failed).incrementAndGet();
+                } catch (Throwable e) {
+                    // plik bez wpisu w dzienniku zostanie przetworzony ponownie przy wznowieniu
+                    failed.incrementAndGet();
+                    unrecorded.incrementAndGet();
+                    System.err.println("Nie zapisano wyniku dla " + file + ": " + e);
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf(Locale.ROOT, "Zakończono: OK %d, błędy %d, %.1f plików/s%n",
+                ok.get(), failed.get(), pending.size() / Math.max(seconds, 1e-9));
+
+        // wpisy czekające na zapis plików .sig - te, których nie udało się utrwalić, znikają z dziennika
+        journal.sync();
+        return unrecorded.get() == 0
+                && files.stream().allMatch(name -> journal.isRecorded(name) && !isRetryable(journal.outcome(name)));
+    }
+
+    /**
+     * @brief Sprawdza, czy plik z danym wynikiem należy przetworzyć ponownie przy wznowieniu
+     *
+     * @param outcome Wynik zapisany w dzienniku
+     * @return true - dla błędów przejściowych (IO_ERROR, ERROR)
+     */
+    private static boolean isRetryable(String outcome) {
+        return SignatureResult.Status.IO_ERROR.name().equals(outcome)
+                || SignatureResult.Status.ERROR.name().equals(outcome);
+    }
+}
@@ -0,0 +1,382 @@
+package org.example;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @file JobJournal.java
+ * @brief Dziennik postępu długotrwałych zadań podpisywania i weryfikacji
+ *
+ * Klasa JobJournal zapisuje w pliku (tylko dopisywanie) każdy zakończony plik wraz z wynikiem,
+ * w postaci wierszy "WYNIK\tścieżka". Każdy wpis trafia do systemu operacyjnego od razu,
+ * więc przetrwa awarię JVM (np. OutOfMemoryError), a synchronizacja z dyskiem (fsync)
+ * odbywa się partiami - co SYNC_BATCH wpisów lub co SYNC_INTERVAL_MS - więc przy
+ * restarcie systemu można utracić najwyżej ostatnią partię. Synchronizacja odbywa się
+ * poza blokadą dopisywania, więc wątki robocze nie czekają na fsync.
+ *
+ * Wpis może wskazywać plik wynikowy (np. .sig), który musi trafić na dysk przed wpisem.
+ * Takie wpisy są buforowane i zapisywane grupowo: najpierw fsync plików wynikowych całej
+ * partii, potem dopisanie wierszy i jeden fsync dziennika. Po awarii JVM lub systemu
+ * dziennik nigdy nie wskazuje więc pliku, którego nie ma na dysku - w najgorszym razie
+ * ostatnia partia jest przetwarzana ponownie.
+ *
+ * Po ponownym otwarciu dziennik jest odtwarzany, a niedokończony ostatni wiersz
+ * (przerwany zapis) jest obcinany. Dziennik można skompaktować do jednego wpisu na plik.
+ * Po zakończeniu zadania complete() przenosi skompaktowany dziennik do pliku z przyrostkiem
+ * .done - istnienie samego dziennika oznacza więc zawsze zadanie przerwane.
+ *
+ * @see BatchJob
+ */
+public final class JobJournal implements Closeable {
+
+    /** @brief Liczba wpisów, po której wymuszana jest synchronizacja z dyskiem */
+    private static final int SYNC_BATCH = 256;
+
+    /** @brief Maksymalny czas w milisekundach, przez jaki wpis może nie być zsynchronizowany */
+    private static final long SYNC_INTERVAL_MS = 1000;
+
+    /** @brief Separator wyniku i ścieżki w wierszu dziennika */
+    private static final char SEPARATOR = '\t';
+
+    /** @brief Ścieżka do pliku dziennika */
+    private final Path path;
+
+    /** @brief Ostatni wynik dla każdego zapisanego pliku */
+    private final Map<String, String> outcomes = new ConcurrentHashMap<>();
+
+    /** @brief Wątek okresowo synchronizujący dziennik z dyskiem */
+    private final ScheduledExecutorService syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "job-journal-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** @brief Blokada porządkująca synchronizację, kompaktowanie i zamknięcie (przed blokadą obiektu) */
+    private final Object syncLock = new Object();
+
+    /** @brief Kanał pliku dziennika otwarty do dopisywania (chroniony blokadą obiektu) */
+    private FileChannel channel;
+
+    /** @brief Liczba wpisów zapisanych od ostatniej synchronizacji (chroniona blokadą obiektu) */
+    private int unsynced;
+
+    /** @brief Wpisy czekające na zapis pliku wynikowego na dysk (chronione blokadą obiektu) */
+    private final List<PendingEntry> pending = new ArrayList<>();
+
+    /**
+     * @brief Otwiera dziennik, odtwarzając wpisy zapisane przez poprzednie uruchomienie
+     *
+     * @param path Ścieżka do pliku dziennika (tworzony, jeśli nie istnieje)
+     * @throws IOException W przypadku błędów I/O
+     */
+    public JobJournal(Path path) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        replay();
+        syncer.scheduleWithFixedDelay(this::syncQuietly, SYNC_INTERVAL_MS, SYNC_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @brief Sprawdza, czy plik został już przetworzony
+     *
+     * @param key Klucz pliku (ścieżka)
+     * @return true - jeśli dziennik zawiera wynik dla pliku
+     */
+    public boolean isRecorded(String key) {
+        return outcomes.containsKey(key);
+    }
+
+    /**
+     * @brief Zwraca ostatni zapisany wynik dla pliku
+     *
+     * @param key Klucz pliku (ścieżka)
+     * @return String - wynik lub null, jeśli plik nie był przetwarzany
+     */
+    public String outcome(String key) {
+        return outcomes.get(key);
+    }
+
+    /**
+     * @brief Zwraca liczbę plików zapisanych w dzienniku
+     *
+     * @return int - liczba plików
+     */
+    public int size() {
+        return outcomes.size();
+    }
+
+    /**
+     * @brief Dopisuje wynik przetworzenia pliku
+     *
+     * @param key Klucz pliku (ścieżka)
+     * @param outcome Wynik operacji (bez znaków tabulacji i nowej linii)
+     * @throws IOException W przypadku błędów I/O
+     */
+    public void record(String key, String outcome) throws IOException {
+        record(key, outcome, null);
+    }
+
+    /**
+     * @brief Dopisuje wynik przetworzenia pliku, który zależy od zapisu pliku wynikowego
+     *
+     * Jeśli podano plik wynikowy, wpis trafia do dziennika dopiero w najbliższej
+     * synchronizacji, po zapisaniu tego pliku na dysk.
+     *
+     * @param key Klucz pliku (ścieżka)
+     * @param outcome Wynik operacji (bez znaków tabulacji i nowej linii)
+     * @param output Plik wynikowy do zsynchronizowania przed wpisem lub null
+     * @throws IOException W przypadku błędów I/O
+     */
+    public void record(String key, String outcome, Path output) throws IOException {
+        if (key.indexOf('\n') >= 0 || outcome.indexOf('\n') >= 0 || outcome.indexOf(SEPARATOR) >= 0) {
+            throw new IllegalArgumentException("Niedozwolony znak we wpisie dziennika: " + key);
+        }
+
+        byte[] line = (outcome + SEPARATOR + key + '\n').getBytes(StandardCharsets.UTF_8);
+        boolean batchFull;
+        synchronized (this) {
+            if (output == null) {
+                write(line);
+            } else {
+                pending.add(new PendingEntry(key, outcome, output, line));
+            }
+            outcomes.put(key, outcome);
+            batchFull = ++unsynced >= SYNC_BATCH;
+        }
+
+        if (batchFull) {
+            sync();
+        }
+    }
+
+    /**
+     * @brief Wymusza zapis wszystkich wpisów na dysk
+     *
+     * Pliki wynikowe oczekujących wpisów są synchronizowane jako pierwsze, następnie
+     * ich wiersze są dopisywane, a dziennik synchronizowany jednym wywołaniem fsync.
+     * Operacje fsync wykonywane są bez blokady dopisywania - FileChannel.force
+     * może przebiegać równolegle z zapisami.
+     *
+     * @throws IOException W przypadku błędów I/O
+     */
+    public void sync() throws IOException {
+        synchronized (syncLock) {
+            List<PendingEntry> batch;
+            FileChannel target;
+            synchronized (this) {
+                if (unsynced == 0 || !channel.isOpen()) {
+                    return;
+                }
+                batch = new ArrayList<>(pending);
+                pending.clear();
+                unsynced = 0;
+                target = channel;
+            }
+
+            List<PendingEntry> durable = new ArrayList<>(batch.size());
+            for (PendingEntry entry : batch) {
+                try (FileChannel output = FileChannel.open(entry.output, StandardOpenOption.WRITE)) {
+                    output.force(true);
+                    durable.add(entry);
+                } catch (IOException e) {
+                    // bez wpisu plik zostanie przetworzony ponownie przy wznowieniu
+                    outcomes.remove(entry.key, entry.outcome);
+                    System.err.println("Nie udało się zapisać na dysk " + entry.output + ": " + e.getMessage());
+                }
+            }
+
+            synchronized (this) {
+                for (PendingEntry entry : durable) {
+                    write(entry.line);
+                }
+            }
+            target.force(false);
+        }
+    }
+
+    /**
+     * @brief Przepisuje dziennik tak, aby zawierał tylko ostatni wynik dla każdego pliku
+     *
+     * Nowa zawartość jest zapisywana do pliku tymczasowego, synchronizowana z dyskiem
+     * i atomowo podmieniana, więc przerwanie kompaktowania nie uszkadza dziennika.
+     *
+     * @throws IOException W przypadku błędów I/O
+     */
+    public void compact() throws IOException {
+        synchronized (syncLock) {
+            sync();
+            synchronized (this) {
+                Path temporary = writeCompacted();
+                try {
+                    channel.close();
+                    Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    // po nieudanym przeniesieniu dziennik pozostaje w poprzedniej postaci i nadal przyjmuje wpisy
+                    Files.deleteIfExists(temporary);
+                    channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                }
+            }
+        }
+    }
+
+    /**
+     * @brief Oznacza zadanie jako zakończone i zamyka dziennik
+     *
+     * Skompaktowany dziennik jest zapisywany obok jako {dziennik}.done, a sam dziennik
+     * usuwany, więc kolejne uruchomienie zaczyna zadanie od nowa zamiast je wznawiać.
+     * Przerwanie przed usunięciem dziennika powoduje jedynie ponowne wznowienie
+     * (bez plików do przetworzenia).
+     *
+     * @throws IOException W przypadku błędów I/O
+     */
+    public void complete() throws IOException {
+        synchronized (syncLock) {
+            sync();
+            Path temporary = writeCompacted();
+            try {
+                Files.move(temporary, path.resolveSibling(path.getFileName() + ".done"),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+            close();
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * @brief Zapisuje ostatni wynik każdego pliku do pliku tymczasowego i synchronizuje go z dyskiem
+     *
+     * @return Path - ścieżka do pliku tymczasowego obok dziennika
+     * @throws IOException W przypadku błędów I/O
+     */
+    private Path writeCompacted() throws IOException {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            StringBuilder lines = new StringBuilder();
+            for (Map.Entry<String, String> entry : outcomes.entrySet()) {
+                lines.append(entry.getValue()).append(SEPARATOR).append(entry.getKey()).append('\n');
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(true);
+        }
+        return temporary;
+    }
+
+    /**
+     * @brief Synchronizuje i zamyka dziennik
+     *
+     * @throws IOException W przypadku błędów I/O
+     */
+    @Override
+    public void close() throws IOException {
+        syncer.shutdownNow();
+        synchronized (syncLock) {
+            sync();
+            synchronized (this) {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * @brief Dopisuje wiersz do dziennika (wywoływana z blokadą obiektu)
+     *
+     * @param line Wiersz dziennika zakończony znakiem nowej linii
+     * @throws IOException W przypadku błędów I/O
+     */
+    private void write(byte[] line) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(line);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * @brief Odczytuje istniejące wpisy i obcina niedokończony ostatni wiersz
+     *
+     * @throws IOException W przypadku błędów I/O
+     */
+    private void replay() throws IOException {
+        long size = channel.size();
+        ByteBuffer content = ByteBuffer.allocate((int) size);
+        while (content.hasRemaining() && channel.read(content, content.position()) >= 0) {
+            // czytaj do końca pliku
+        }
+
+        byte[] bytes = content.array();
+        int lineStart = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == '\n') {
+                String line = new String(bytes, lineStart, i - lineStart, StandardCharsets.UTF_8);
+                int separator = line.indexOf(SEPARATOR);
+                if (separator > 0) {
+                    outcomes.put(line.substring(separator + 1), line.substring(0, separator));
+                }
+                lineStart = i + 1;
+            }
+        }
+
+        if (lineStart < bytes.length) {
+            System.err.println("Obcięto niedokończony wpis dziennika: " + path);
+            channel.truncate(lineStart);
+            channel.force(false);
+        }
+        channel.position(lineStart);
+    }
+
+    /**
+     * @brief Synchronizuje dziennik, zgłaszając błąd tylko na standardowe wyjście błędów
+     */
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (IOException e) {
+            System.err.println("Błąd synchronizacji dziennika: " + e.getMessage());
+        }
+    }
+
+    /**
+     * @brief Wpis czekający na zapis pliku wynikowego na dysk
+     */
+    private static final class PendingEntry {
+
+        /** @brief Klucz pliku (ścieżka) */
+        final String key;
+
+        /** @brief Wynik operacji */
+        final String outcome;
+
+        /** @brief Plik wynikowy synchronizowany przed wpisem */
+        final Path output;
+
+        /** @brief Gotowy wiersz dziennika */
+        final byte[] line;
+
+        PendingEntry(String key, String outcome, Path output, byte[] line) {
+            this.key = key;
+            this.outcome = outcome;
+            this.output = output;
+            this.line = line;
+        }
+    }
+}
@@ -0,0 +1,823 @@
+package org.example;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @file LoadTestHarness.java
+ * @brief Narzędzie do długotrwałych testów obciążeniowych podpisywania i weryfikacji PDF
+ *
+ * Klasa LoadTestHarness generuje syntetyczne dokumenty PDF o zadanym rozkładzie rozmiarów,
+ * a następnie przez określony czas wywołuje podpisywanie i weryfikację z wielu wątków.
+ * Na końcu wypisuje przepustowość, percentyle opóźnień (p50/p95/p99/max),
+ * pauzy GC oraz szczytowe zużycie pamięci (RSS).
+ *
+ * Narzędzie działa w całości lokalnie - para kluczy RSA jest generowana w pamięci,
+ * więc nie jest potrzebny pendrive ani plik klucza publicznego.
+ *
+ * Przykład uruchomienia:
+ * @code
+ * java org.example.LoadTestHarness duration=120 concurrency=8 mode=both sizes=10k:60,1m:30,10m:10
+ * java org.example.LoadTestHarness duration=300 rate=50 concurrency=16 mode=verify
+ * @endcode
+ *
+ * @see Signer
+ * @see Verifier
+ */
+public class LoadTestHarness {
+
+    /** @brief Domyślny czas trwania pomiaru w sekundach */
+    private static final int DEFAULT_DURATION_SECONDS = 60;
+
+    /** @brief Domyślny czas rozgrzewki JVM w sekundach (wyniki nie są liczone) */
+    private static final int DEFAULT_WARMUP_SECONDS = 5;
+
+    /** @brief Domyślna liczba wątków roboczych */
+    private static final int DEFAULT_CONCURRENCY = Runtime.getRuntime().availableProcessors();
+
+    /** @brief Domyślna liczba syntetycznych dokumentów PDF */
+    private static final int DEFAULT_FILE_COUNT = 50;
+
+    /** @brief Domyślny rozkład rozmiarów dokumentów: rozmiar:waga */
+    private static final String DEFAULT_SIZES = "10k:60,1m:30,10m:10";
+
+    /** @brief Ziarno generatora losowego, aby kolejne uruchomienia były porównywalne */
+    private static final long RANDOM_SEED = 20240601L;
+
+    /**
+     * @brief Rodzaj operacji wykonywanej w teście
+     */
+    private enum Mode { SIGN, VERIFY, BOTH }
+
+    /**
+     * @brief Główna metoda narzędzia
+     *
+     * Obsługiwane argumenty (w postaci klucz=wartość):
+     * - duration - czas pomiaru w sekundach
+     * - warmup - czas rozgrzewki w sekundach
+     * - concurrency - liczba wątków roboczych
+     * - rate - docelowa liczba operacji na sekundę (0 - bez limitu, tryb zamkniętej pętli)
+     * - mode - sign, verify lub both
+     * - files - liczba syntetycznych dokumentów
+     * - sizes - rozkład rozmiarów, np. 10k:60,1m:30,10m:10
+     * - keySize - rozmiar klucza RSA w bitach
+     * - dir - katalog roboczy (domyślnie katalog tymczasowy)
+     *
+     * @param args Argumenty wiersza poleceń
+     * @throws Exception W przypadku błędów kryptograficznych lub I/O
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseArguments(args);
+
+        int duration = Integer.parseInt(options.getOrDefault("duration", String.valueOf(DEFAULT_DURATION_SECONDS)));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", String.valueOf(DEFAULT_WARMUP_SECONDS)));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", String.valueOf(DEFAULT_CONCURRENCY)));
+        int rate = Integer.parseInt(options.getOrDefault("rate", "0"));
+        int fileCount = Integer.parseInt(options.getOrDefault("files", String.valueOf(DEFAULT_FILE_COUNT)));
+        int keySize = Integer.parseInt(options.getOrDefault("keySize", String.valueOf(CryptoPrimitives.RSA_KEY_SIZE)));
+        Mode mode = Mode.valueOf(options.getOrDefault("mode", "both").toUpperCase(Locale.ROOT));
+        String sizes = options.getOrDefault("sizes", DEFAULT_SIZES);
+
+        Path workDir = options.containsKey("dir")
+                ? Files.createDirectories(Paths.get(options.get("dir")))
+                : Files.createTempDirectory("pdfsigner-load");
+
+        System.out.println("Generowanie klucza RSA " + keySize + " bitów...");
+        KeyPairGenerator keyGen = KeyPairGenerator.getInstance(CryptoPrimitives.RSA_ALGORITHM);
+        keyGen.initialize(keySize);
+        KeyPair keyPair = keyGen.generateKeyPair();
+
+        System.out.println("Generowanie " + fileCount + " dokumentów PDF w " + workDir.toAbsolutePath());
+        Path verifyDir = Files.createDirectories(workDir.resolve("verify"));
+        Path signDir = Files.createDirectories(workDir.resolve("sign"));
+        List<String> verifyDocuments = generateDocuments(verifyDir, fileCount, parseSizeDistribution(sizes));
+        List<String> signDocuments = new ArrayList<>(verifyDocuments.size());
+        for (String document : verifyDocuments) {
+            Path copy = signDir.resolve(Paths.get(document).getFileName());
+            Files.copy(Paths.get(document), copy, StandardCopyOption.REPLACE_EXISTING);
+            signDocuments.add(copy.toString());
+        }
+
+        Signer signer = new Signer(keyPair.getPrivate());
+        for (String document : verifyDocuments) {
+            SignatureResult result = signer.sign(document);
+            if (!result.isSuccess()) {
+                throw new IllegalStateException("Nie udało się podpisać dokumentu " + document + ": " + result.getMessage());
+            }
+        }
+
+        LoadTestHarness harness = new LoadTestHarness(signer, new Verifier(keyPair.getPublic()),
+                signDocuments, verifyDocuments, mode, concurrency, rate);
+
+        if (warmup > 0) {
+            System.out.println("Rozgrzewka: " + warmup + " s");
+            harness.run(warmup);
+        }
+
+        System.out.printf(Locale.ROOT, "Pomiar: %d s, wątki: %d, tryb: %s, tempo: %s%n",
+                duration, concurrency, mode, rate > 0 ? rate + " op/s" : "bez limitu");
+        harness.run(duration).print();
+    }
+
+    /** @brief Obiekt podpisujący współdzielony przez wszystkie wątki */
+    private final Signer signer;
+
+    /** @brief Obiekt weryfikujący współdzielony przez wszystkie wątki */
+    private final Verifier verifier;
+
+    /** @brief Kopie dokumentów, do których zapisywane są nowe podpisy */
+    private final List<String> signDocuments;
+
+    /** @brief Dokumenty podpisane przed testem - nigdy nie są modyfikowane */
+    private final List<String> verifyDocuments;
+
+    /** @brief Rodzaj wykonywanych operacji */
+    private final Mode mode;
+
+    /** @brief Liczba wątków roboczych */
+    private final int concurrency;
+
+    /** @brief Docelowa liczba operacji na sekundę lub 0 */
+    private final int rate;
+
+    /** @brief Licznik wyznaczający rodzaj operacji w trybie BOTH */
+    private final AtomicInteger nextOperation = new AtomicInteger();
+
+    /** @brief Licznik wyznaczający dokument do podpisania */
+    private final AtomicInteger nextSignDocument = new AtomicInteger();
+
+    /** @brief Licznik wyznaczający dokument do weryfikacji */
+    private final AtomicInteger nextVerifyDocument = new AtomicInteger();
+
+    /**
+     * @brief Tworzy narzędzie testowe dla podanych dokumentów
+     *
+     * @param signer Obiekt podpisujący
+     * @param verifier Obiekt weryfikujący
+     * @param signDocuments Kopie dokumentów używane przy podpisywaniu
+     * @param verifyDocuments Dokumenty PDF podpisane wcześniej, używane przy weryfikacji
+     * @param mode Rodzaj wykonywanych operacji
+     * @param concurrency Liczba wątków roboczych
+     * @param rate Docelowa liczba operacji na sekundę lub 0
+     */
+    private LoadTestHarness(Signer signer, Verifier verifier, List<String> signDocuments,
+                            List<String> verifyDocuments, Mode mode, int concurrency, int rate) {
+        this.signer = signer;
+        this.verifier = verifier;
+        this.signDocuments = signDocuments;
+        this.verifyDocuments = verifyDocuments;
+        this.mode = mode;
+        this.concurrency = concurrency;
+        this.rate = rate;
+    }
+
+    /**
+     * @brief Wykonuje jeden przebieg testu o podanym czasie trwania
+     *
+     * W trybie bez limitu tempa każdy wątek wykonuje operacje jedna po drugiej.
+     * W trybie z limitem zadania są planowane w stałych odstępach, a opóźnienie
+     * liczone jest od zaplanowanego momentu startu (początek przebiegu + k * okres),
+     * a nie od chwili wywołania planisty, aby kolejkowanie było widoczne w wynikach.
+     * Szczytowe zajęcie pul pamięci i szczytowy RSS są zerowane na początku przebiegu,
+     * aby generowanie dokumentów i rozgrzewka nie wpływały na wynik.
+     *
+     * @param seconds Czas trwania przebiegu w sekundach
+     * @return Report - zebrane wyniki przebiegu
+     * @throws InterruptedException W przypadku przerwania wątku głównego
+     */
+    private Report run(int seconds) throws InterruptedException {
+        Report report = new Report(seconds);
+        GcMonitor gcMonitor = new GcMonitor();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            pool.resetPeakUsage();
+        }
+        report.rssReset = resetPeakRss();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        gcMonitor.start();
+        try {
+            if (rate <= 0) {
+                for (int i = 0; i < concurrency; i++) {
+                    workers.execute(() -> {
+                        while (System.nanoTime() < deadline) {
+                            executeOperation(System.nanoTime(), report);
+                        }
+                    });
+                }
+                workers.shutdown();
+                workers.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+            } else {
+                long periodNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+                AtomicLong tick = new AtomicLong();
+                long base = System.nanoTime();
+                ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+                scheduler.scheduleAtFixedRate(() -> {
+                    long intendedStart = base + tick.getAndIncrement() * periodNanos;
+                    workers.execute(() -> executeOperation(intendedStart, report));
+                }, 0, periodNanos, TimeUnit.NANOSECONDS);
+
+                TimeUnit.NANOSECONDS.sleep(deadline - System.nanoTime());
+                scheduler.shutdownNow();
+                workers.shutdown();
+                workers.awaitTermination(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            workers.shutdownNow();
+            gcMonitor.stop();
+        }
+
+        report.gcPauses = gcMonitor.pauses();
+        report.gcCount = gcMonitor.count();
+        report.gcTotalMillis = gcMonitor.totalMillis();
+        return report;
+    }
+
+    /**
+     * @brief Wykonuje pojedynczą operację i zapisuje jej czas trwania
+     *
+     * Podpisywanie zapisuje plik .sig obok kopii dokumentu, więc weryfikacja zawsze
+     * czyta niezmieniony zestaw dokumentów podpisanych przed testem.
+     *
+     * @param startNanos Moment rozpoczęcia (lub zaplanowanego rozpoczęcia) operacji
+     * @param report Raport, do którego zapisywany jest wynik
+     */
+    private void executeOperation(long startNanos, Report report) {
+        boolean sign = mode == Mode.SIGN || (mode == Mode.BOTH && (nextOperation.getAndIncrement() & 1) == 0);
+
+        boolean success;
+        if (sign) {
+            success = signer.sign(pick(signDocuments, nextSignDocument)).isSuccess();
+        } else {
+            success = verifier.verify(pick(verifyDocuments, nextVerifyDocument)).isSuccess();
+        }
+
+        long elapsed = System.nanoTime() - startNanos;
+        (sign ? report.sign : report.verify).record(elapsed, success);
+    }
+
+    /**
+     * @brief Wybiera kolejny dokument z listy (cyklicznie)
+     *
+     * @param documents Lista dokumentów
+     * @param counter Licznik kolejnych wyborów
+     * @return String - ścieżka do dokumentu
+     */
+    private static String pick(List<String> documents, AtomicInteger counter) {
+        return documents.get(Math.floorMod(counter.getAndIncrement(), documents.size()));
+    }
+
+    /**
+     * @brief Tworzy syntetyczne dokumenty PDF o rozmiarach losowanych z rozkładu
+     *
+     * @param directory Katalog docelowy
+     * @param count Liczba dokumentów
+     * @param distribution Rozkład rozmiarów: rozmiar w bajtach -> waga
+     * @return List - ścieżki do wygenerowanych dokumentów
+     * @throws IOException W przypadku błędów zapisu
+     */
+    private static List<String> generateDocuments(Path directory, int count, Map<Long, Integer> distribution)
+            throws IOException {
+        Random random = new Random(RANDOM_SEED);
+        int totalWeight = distribution.values().stream().mapToInt(Integer::intValue).sum();
+        List<String> documents = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            int pick = random.nextInt(totalWeight);
+            long size = 0;
+            for (Map.Entry<Long, Integer> entry : distribution.entrySet()) {
+                pick -= entry.getValue();
+                if (pick < 0) {
+                    size = entry.getKey();
+                    break;
+                }
+            }
+
+            Path file = directory.resolve(String.format(Locale.ROOT, "doc_%05d.pdf", i));
+            Files.write(file, createSyntheticPdf(size, random));
+            documents.add(file.toString());
+        }
+        return documents;
+    }
+
+    /**
+     * @brief Buduje minimalny, poprawny strukturalnie dokument PDF o zadanym rozmiarze
+     *
+     * Dokument zawiera jedną stronę oraz strumień z losowymi danymi,
+     * który dopełnia plik do żądanego rozmiaru.
+     *
+     * @param size Przybliżony rozmiar dokumentu w bajtach
+     * @param random Generator losowy dla zawartości strumienia
+     * @return byte[] - zawartość pliku PDF
+     */
+    private static byte[] createSyntheticPdf(long size, Random random) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream((int) Math.min(size + 1024, Integer.MAX_VALUE));
+        int[] offsets = new int[5];
+
+        writeAscii(out, "%PDF-1.7\n%âãÏÓ\n");
+        offsets[1] = out.size();
+        writeAscii(out, "1 0 obj\n<< /Type /Catalog /Pages 2 0 R >>\nendobj\n");
+        offsets[2] = out.size();
+        writeAscii(out, "2 0 obj\n<< /Type /Pages /Kids [3 0 R] /Count 1 >>\nendobj\n");
+        offsets[3] = out.size();
+        writeAscii(out, "3 0 obj\n<< /Type /Page /Parent 2 0 R /MediaBox [0 0 595 842] /Contents 4 0 R >>\nendobj\n");
+
+        int padding = (int) Math.max(0, Math.min(size - 512, Integer.MAX_VALUE - 2048));
+        byte[] payload = new byte[padding];
+        random.nextBytes(payload);
+
+        offsets[4] = out.size();
+        writeAscii(out, "4 0 obj\n<< /Length " + padding + " >>\nstream\n");
+        out.write(payload, 0, payload.length);
+        writeAscii(out, "\nendstream\nendobj\n");
+
+        int xref = out.size();
+        StringBuilder trailer = new StringBuilder("xref\n0 5\n0000000000 65535 f \n");
+        for (int i = 1; i < offsets.length; i++) {
+            trailer.append(String.format(Locale.ROOT, "%010d 00000 n \n", offsets[i]));
+        }
+        trailer.append("trailer\n<< /Size 5 /Root 1 0 R >>\nstartxref\n").append(xref).append("\n%%EOF\n");
+        writeAscii(out, trailer.toString());
+
+        return out.toByteArray();
+    }
+
+    /**
+     * @brief Zapisuje tekst do strumienia w kodowaniu ISO-8859-1
+     *
+     * @param out Strumień docelowy
+     * @param text Tekst do zapisania
+     */
+    private static void writeAscii(ByteArrayOutputStream out, String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.ISO_8859_1);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    /**
+     * @brief Parsuje rozkład rozmiarów w formacie rozmiar:waga,rozmiar:waga
+     *
+     * Rozmiar może mieć przyrostek k, m lub g (kilobajty, megabajty, gigabajty).
+     *
+     * @param spec Specyfikacja rozkładu
+     * @return Map - rozmiar w bajtach -> waga
+     */
+    private static Map<Long, Integer> parseSizeDistribution(String spec) {
+        Map<Long, Integer> distribution = new java.util.LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split(":");
+            int weight = pair.length > 1 ? Integer.parseInt(pair[1]) : 1;
+            distribution.merge(parseSize(pair[0]), weight, Integer::sum);
+        }
+        return distribution;
+    }
+
+    /**
+     * @brief Zamienia rozmiar z przyrostkiem (k, m, g) na liczbę bajtów
+     *
+     * @param text Rozmiar, np. 512k
+     * @return long - rozmiar w bajtach
+     */
+    private static long parseSize(String text) {
+        String value = text.trim().toLowerCase(Locale.ROOT);
+        long multiplier = 1;
+        switch (value.charAt(value.length() - 1)) {
+            case 'k': multiplier = 1024L; break;
+            case 'm': multiplier = 1024L * 1024; break;
+            case 'g': multiplier = 1024L * 1024 * 1024; break;
+            default: return Long.parseLong(value);
+        }
+        return Long.parseLong(value.substring(0, value.length() - 1)) * multiplier;
+    }
+
+    /**
+     * @brief Parsuje argumenty w postaci klucz=wartość
+     *
+     * @param args Argumenty wiersza poleceń
+     * @return Map - klucz -> wartość
+     */
+    private static Map<String, String> parseArguments(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Nieprawidłowy argument: " + arg + " (oczekiwano klucz=wartość)");
+            }
+            String key = arg.startsWith("--") ? arg.substring(2, separator) : arg.substring(0, separator);
+            options.put(key, arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    /**
+     * @brief Odczytuje szczytowe zużycie pamięci rezydentnej procesu (VmHWM)
+     *
+     * @return long - szczytowy RSS w bajtach lub -1, jeśli system go nie udostępnia
+     */
+    private static long readPeakRss() {
+        try {
+            for (String line : Files.readAllLines(Paths.get("/proc/self/status"))) {
+                if (line.startsWith("VmHWM:")) {
+                    String[] parts = line.trim().split("\\s+");
+                    return Long.parseLong(parts[1]) * 1024;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // brak /proc (np. Windows) - zwracamy wartość nieznaną
+        }
+        return -1;
+    }
+
+    /**
+     * @brief Zeruje szczytowy RSS procesu (VmHWM) przez zapis do /proc/self/clear_refs
+     *
+     * @return true - jeśli licznik został wyzerowany; w przeciwnym razie VmHWM obejmuje cały czas życia procesu
+     */
+    private static boolean resetPeakRss() {
+        try {
+            Files.write(Paths.get("/proc/self/clear_refs"), "5".getBytes(StandardCharsets.US_ASCII));
+            return true;
+        } catch (IOException | RuntimeException e) {
+            // brak /proc lub uprawnień - szczytowy RSS zostanie oznaczony jako wartość od startu procesu
+            return false;
+        }
+    }
+
+    /**
+     * @brief Zwraca sumę szczytowego zajęcia pul pamięci sterty JVM
+     *
+     * @return long - szczytowe zajęcie sterty w bajtach
+     */
+    private static long readPeakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    /**
+     * @brief Rejestr czasów trwania operacji jednego rodzaju
+     *
+     * Każdy wątek zapisuje czasy do własnego histogramu o stałym rozmiarze, bez blokad
+     * i bez alokacji, więc rejestr nie rośnie w długich testach i nie wpływa na mierzone
+     * opóźnienia ani na statystyki GC. Histogramy są scalane dopiero przy wypisywaniu wyników.
+     */
+    private static final class LatencyRecorder {
+
+        /** @brief Histogramy wszystkich wątków, które zapisały choć jedną operację */
+        private final List<Histogram> histograms = new CopyOnWriteArrayList<>();
+
+        /** @brief Histogram bieżącego wątku */
+        private final ThreadLocal<Histogram> local = ThreadLocal.withInitial(() -> {
+            Histogram histogram = new Histogram();
+            histograms.add(histogram);
+            return histogram;
+        });
+
+        /**
+         * @brief Zapisuje wynik pojedynczej operacji
+         *
+         * Nieudane operacje są tylko zliczane - nie trafiają do percentyli.
+         *
+         * @param nanos Czas trwania w nanosekundach
+         * @param success Czy operacja się powiodła
+         */
+        void record(long nanos, boolean success) {
+            Histogram histogram = local.get();
+            if (success) {
+                histogram.record(nanos);
+            } else {
+                histogram.failures++;
+            }
+        }
+
+        /**
+         * @brief Wypisuje statystyki operacji
+         *
+         * Wywoływana po zakończeniu pracy wątków roboczych.
+         *
+         * @param name Nazwa rodzaju operacji
+         * @param seconds Czas trwania pomiaru w sekundach
+         */
+        void print(String name, int seconds) {
+            Histogram total = new Histogram();
+            for (Histogram histogram : histograms) {
+                total.merge(histogram);
+            }
+            if (total.count == 0 && total.failures == 0) {
+                return;
+            }
+            System.out.printf(Locale.ROOT, "%-8s udane operacje: %d (błędy: %d), przepustowość: %.1f op/s%n",
+                    name, total.count, total.failures, total.count / (double) seconds);
+            if (total.count == 0) {
+                return;
+            }
+            System.out.printf(Locale.ROOT, "         p50: %.2f ms, p95: %.2f ms, p99: %.2f ms, max: %.2f ms%n",
+                    total.percentile(50) / 1e6, total.percentile(95) / 1e6, total.percentile(99) / 1e6,
+                    total.max / 1e6);
+        }
+    }
+
+    /**
+     * @brief Histogram czasów o przedziałach rosnących logarytmicznie
+     *
+     * Każda potęga dwójki jest dzielona na SUB_BUCKETS równych przedziałów, więc błąd
+     * względny odczytanego percentyla nie przekracza ok. 6%, a cały histogram zajmuje
+     * niecałe 8 KB niezależnie od liczby próbek. Instancja nie jest bezpieczna wątkowo.
+     */
+    private static final class Histogram {
+
+        /** @brief Liczba bitów wyznaczających przedział w obrębie potęgi dwójki */
+        private static final int SUB_BUCKET_BITS = 4;
+
+        /** @brief Liczba przedziałów na każdą potęgę dwójki */
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+        /** @brief Łączna liczba przedziałów (pokrywa cały zakres long) */
+        private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+        /** @brief Liczba próbek w każdym przedziale */
+        private final long[] counts = new long[BUCKETS];
+
+        /** @brief Liczba zapisanych próbek */
+        private long count;
+
+        /** @brief Największa zapisana wartość w nanosekundach */
+        private long max;
+
+        /** @brief Liczba operacji zakończonych niepowodzeniem */
+        private long failures;
+
+        /**
+         * @brief Zapisuje czas udanej operacji
+         *
+         * @param nanos Czas trwania w nanosekundach
+         */
+        void record(long nanos) {
+            long value = Math.max(0, nanos);
+            counts[indexOf(value)]++;
+            count++;
+            max = Math.max(max, value);
+        }
+
+        /**
+         * @brief Dodaje próbki innego histogramu
+         *
+         * @param other Histogram do dodania
+         */
+        void merge(Histogram other) {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] += other.counts[i];
+            }
+            count += other.count;
+            failures += other.failures;
+            max = Math.max(max, other.max);
+        }
+
+        /**
+         * @brief Zwraca percentyl (metoda najbliższej rangi)
+         *
+         * @param percentile Percentyl (0-100)
+         * @return long - górna granica przedziału zawierającego percentyl w nanosekundach
+         */
+        long percentile(double percentile) {
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(upperBound(i), max);
+                }
+            }
+            return max;
+        }
+
+        /**
+         * @brief Wyznacza przedział dla wartości
+         *
+         * @param value Wartość nieujemna
+         * @return int - indeks przedziału
+         */
+        private static int indexOf(long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+            return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+        }
+
+        /**
+         * @brief Zwraca największą wartość należącą do przedziału
+         *
+         * @param index Indeks przedziału
+         * @return long - górna granica przedziału
+         */
+        private static long upperBound(int index) {
+            if (index < SUB_BUCKETS) {
+                return index;
+            }
+            int shift = index / SUB_BUCKETS - 1;
+            long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+            return lower + (1L << shift) - 1;
+        }
+    }
+
+    /**
+     * @brief Wyniki jednego przebiegu testu
+     */
+    private static final class Report {
+
+        /** @brief Czas trwania przebiegu w sekundach */
+        private final int seconds;
+
+        /** @brief Czasy operacji podpisywania */
+        private final LatencyRecorder sign = new LatencyRecorder();
+
+        /** @brief Czasy operacji weryfikacji */
+        private final LatencyRecorder verify = new LatencyRecorder();
+
+        /** @brief Czasy poszczególnych pauz GC w milisekundach */
+        private long[] gcPauses = new long[0];
+
+        /** @brief Liczba cykli GC */
+        private long gcCount;
+
+        /** @brief Łączny czas GC w milisekundach */
+        private long gcTotalMillis;
+
+        /** @brief Czy szczytowy RSS został wyzerowany na początku przebiegu */
+        private boolean rssReset;
+
+        /**
+         * @brief Tworzy pusty raport
+         *
+         * @param seconds Czas trwania przebiegu w sekundach
+         */
+        Report(int seconds) {
+            this.seconds = seconds;
+        }
+
+        /**
+         * @brief Wypisuje raport na standardowe wyjście
+         */
+        void print() {
+            sign.print("sign", seconds);
+            verify.print("verify", seconds);
+
+            long maxPause = Arrays.stream(gcPauses).max().orElse(0);
+            System.out.printf(Locale.ROOT, "GC       cykle: %d, łącznie: %d ms, najdłuższa pauza: %d ms%n",
+                    gcCount, gcTotalMillis, maxPause);
+
+            long peakRss = readPeakRss();
+            System.out.printf(Locale.ROOT, "Pamięć   szczytowy RSS%s: %s, szczytowa sterta: %.1f MB%n",
+                    rssReset ? "" : " (od startu procesu)",
+                    peakRss < 0 ? "n/d" : String.format(Locale.ROOT, "%.1f MB", peakRss / 1048576.0),
+                    readPeakHeap() / 1048576.0);
+        }
+    }
+
+    /**
+     * @brief Zbiera informacje o pauzach GC w trakcie przebiegu
+     *
+     * Korzysta z powiadomień JMX wysyłanych po każdym cyklu GC, a jeśli nie są dostępne,
+     * z liczników GarbageCollectorMXBean.
+     */
+    private static final class GcMonitor {
+
+        /** @brief Czasy zarejestrowanych pauz w milisekundach */
+        private final List<Long> pauses = new ArrayList<>();
+
+        /** @brief Słuchacz powiadomień o zakończonych cyklach GC */
+        private final NotificationListener listener = (notification, handback) -> {
+            if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                GarbageCollectionNotificationInfo info =
+                        GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+                synchronized (this.pauses) {
+                    this.pauses.add(info.getGcInfo().getDuration());
+                }
+            }
+        };
+
+        /** @brief Liczba cykli GC w momencie startu */
+        private long startCount;
+
+        /** @brief Łączny czas GC w momencie startu */
+        private long startMillis;
+
+        /**
+         * @brief Rozpoczyna rejestrowanie pauz
+         */
+        void start() {
+            startCount = totalCount();
+            startMillis = totalTime();
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                if (gc instanceof NotificationEmitter) {
+                    ((NotificationEmitter) gc).addNotificationListener(listener, null, null);
+                }
+            }
+        }
+
+        /**
+         * @brief Kończy rejestrowanie pauz
+         */
+        void stop() {
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                if (gc instanceof NotificationEmitter) {
+                    try {
+                        ((NotificationEmitter) gc).removeNotificationListener(listener);
+                    } catch (javax.management.ListenerNotFoundException e) {
+                        // słuchacz nie był zarejestrowany
+                    }
+                }
+            }
+        }
+
+        /**
+         * @brief Zwraca czasy zarejestrowanych pauz
+         *
+         * @return long[] - czasy pauz w milisekundach
+         */
+        long[] pauses() {
+            synchronized (pauses) {
+                return pauses.stream().mapToLong(Long::longValue).toArray();
+            }
+        }
+
+        /**
+         * @brief Zwraca liczbę cykli GC od startu
+         *
+         * @return long - liczba cykli
+         */
+        long count() {
+            return totalCount() - startCount;
+        }
+
+        /**
+         * @brief Zwraca łączny czas GC od startu
+         *
+         * @return long - czas w milisekundach
+         */
+        long totalMillis() {
+            return totalTime() - startMillis;
+        }
+
+        /**
+         * @brief Sumuje liczniki cykli wszystkich kolektorów
+         *
+         * @return long - łączna liczba cykli
+         */
+        private static long totalCount() {
+            long total = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                total += Math.max(0, gc.getCollectionCount());
+            }
+            return total;
+        }
+
+        /**
+         * @brief Sumuje czasy wszystkich kolektorów
+         *
+         * @return long - łączny czas w milisekundach
+         */
+        private static long totalTime() {
+            long total = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                total += Math.max(0, gc.getCollectionTime());
+            }
+            return total;
+        }
+    }
+}
@@ -1,16 +1,15 @@
 package org.example;
 
-import javax.crypto.Cipher;
-import javax.crypto.SecretKey;
-import javax.crypto.spec.SecretKeySpec;
 import java.io.File;
-import java.nio.charset.StandardCharsets;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.security.*;
-import java.security.spec.PKCS8EncodedKeySpec;
-import java.security.spec.X509EncodedKeySpec;
-import java.util.Base64;
 
 /**
  * @file PdfSigner.java
@@ -19,26 +18,74 @@ import java.util.Base64;
  * Klasa PdfSigner umożliwia cyfrowe podpisywanie dokumentów PDF przy użyciu
  * kryptografii asymetrycznej RSA oraz weryfikację istniejących podpisów.
  * Klucz prywatny jest przechowywany w zaszyfrowanej formie na nośniku zewnętrznym.
+ *
+ * Metody sign i verify zwracają SignatureResult z rodzajem wyniku i czasem trwania.
+ * Metody signPDF i verifyPDFSignature zwracające boolean pozostały dla zgodności.
+ * Do wielokrotnych operacji tym samym kluczem służą klasy Signer i Verifier.
+ *
+ * @see Signer
+ * @see Verifier
+ * @see CryptoPrimitives
+ * @see KeyCodec
  */
 public class PdfSigner {
 
-    /** @brief Nazwa pliku z zaszyfrowanym kluczem prywatnym */
-    private static final String PRIVATE_KEY_FILE = "private_key.enc";
-
     /** @brief Ścieżka do pliku z kluczem publicznym */
     private static final String PUBLIC_KEY_PATH = "../KeyGenerator/public_key.pem";
 
-    /** @brief Algorytm haszowania używany do podpisów */
-    private static final String HASH_ALGORITHM = "SHA-256";
+    /** @brief Ścieżka do pliku z odciskami unieważnionych kluczy publicznych */
+    private static final String REVOCATION_LIST_PATH = "revoked_keys.txt";
+
+    /** @brief Lista unieważnionych kluczy sprawdzana przy każdej weryfikacji */
+    private static final RevocationList REVOCATION_LIST = new RevocationList();
 
-    /** @brief Algorytm podpisu cyfrowego */
-    private static final String SIGNATURE_ALGORITHM = "SHA256withRSA";
+    /** @brief Rozmiar bufora odczytu przy haszowaniu plików */
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
 
-    /** @brief Algorytm szyfrowania symetrycznego */
-    private static final String AES_ALGORITHM = "AES";
+    /** @brief Bufory odczytu przypisane do wątków, aby haszowanie nie alokowało pamięci o rozmiarze pliku */
+    private static final ThreadLocal<ByteBuffer> READ_BUFFER =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(READ_BUFFER_SIZE));
+
+    static {
+        if (Files.exists(Paths.get(REVOCATION_LIST_PATH))) {
+            reloadRevocationList(REVOCATION_LIST_PATH);
+        }
+    }
+
+    /**
+     * @brief Wczytuje ponownie listę unieważnionych kluczy
+     *
+     * Nowa lista zastępuje poprzednią atomowo - weryfikacje wykonywane w tym czasie
+     * korzystają ze starej lub nowej listy, nigdy ze stanu pośredniego.
+     * W przypadku błędu lista jest oznaczana jako niedostępna, a weryfikacja zwraca
+     * błąd do czasu udanego wczytania - nieczytelny plik nie wyłącza sprawdzania unieważnień.
+     *
+     * @param path Ścieżka do pliku z odciskami unieważnionych kluczy
+     * @return true - jeśli lista została wczytana, false - w przeciwnym razie
+     *
+     * @see RevocationList#reload(java.nio.file.Path)
+     */
+    public static boolean reloadRevocationList(String path) {
+        try {
+            REVOCATION_LIST.reload(Paths.get(path));
+            System.out.println("Wczytano listę unieważnionych kluczy: " + REVOCATION_LIST.size());
+            return true;
+        } catch (Exception e) {
+            System.err.println("Błąd podczas wczytywania listy unieważnionych kluczy: " + e.getMessage());
+            return false;
+        }
+    }
 
-    /** @brief Algorytm kryptografii asymetrycznej */
-    private static final String RSA_ALGORITHM = "RSA";
+    /**
+     * @brief Zwraca listę unieważnionych kluczy używaną przy weryfikacji
+     *
+     * @return RevocationList - lista unieważnionych kluczy
+     *
+     * @see Verifier#Verifier(PublicKey)
+     */
+    static RevocationList revocationList() {
+        return REVOCATION_LIST;
+    }
 
     /**
      * @brief Podpisuje dokument PDF podpisem cyfrowym przy użyciu klucza RSA
@@ -52,55 +99,33 @@ public class PdfSigner {
      *
      * @param filePath Ścieżka do pliku PDF do podpisania
      * @param pin PIN służący do odszyfrowania klucza prywatnego
-     * @return true - jeśli operacja podpisania się powiodła, false - w przeciwnym razie
-     *
-     * @throws Exception W przypadku błędów kryptograficznych lub I/O
+     * @return SignatureResult - SIGNED, KEY_NOT_FOUND, WRONG_PIN, IO_ERROR lub ERROR
      *
-     * @see #verifyPDFSignature(String)
-     * @see #findEncryptedPrivateKey()
+     * @see #verify(String)
+     * @see Signer#sign(Path)
      */
-    public static boolean signPDF(String filePath, String pin) {
-        try {
-            File encryptedKeyFile = findEncryptedPrivateKey();
-            if (encryptedKeyFile == null) {
-                System.err.println("Nie znaleziono zaszyfrowanego klucza prywatnego");
-                return false;
-            }
-
-            byte[] encryptedPrivateKey = Files.readAllBytes(encryptedKeyFile.toPath());
-
-            MessageDigest sha = MessageDigest.getInstance(HASH_ALGORITHM);
-            SecretKey aesKey = new SecretKeySpec(
-                    sha.digest(pin.getBytes(StandardCharsets.UTF_8)),
-                    AES_ALGORITHM
-            );
-
-            Cipher aesCipher = Cipher.getInstance(AES_ALGORITHM);
-            aesCipher.init(Cipher.DECRYPT_MODE, aesKey);
-            byte[] privateKeyBytes = aesCipher.doFinal(
-                    Base64.getDecoder().decode(encryptedPrivateKey)
-            );
-
-            PKCS8EncodedKeySpec keySpec = new PKCS8EncodedKeySpec(privateKeyBytes);
-            PrivateKey privateKey = KeyFactory.getInstance(RSA_ALGORITHM)
-                    .generatePrivate(keySpec);
-
-            byte[] pdfData = Files.readAllBytes(Paths.get(filePath));
-            byte[] pdfHash = MessageDigest.getInstance(HASH_ALGORITHM).digest(pdfData);
-
-            Signature signature = Signature.getInstance(SIGNATURE_ALGORITHM);
-            signature.initSign(privateKey);
-            signature.update(pdfHash);
-            byte[] digitalSignature = signature.sign();
-
-            Files.write(Paths.get(filePath + ".sig"), digitalSignature);
-            return true;
+    public static SignatureResult sign(String filePath, String pin) {
+        long start = System.nanoTime();
+        File encryptedKeyFile = findEncryptedPrivateKey();
+        if (encryptedKeyFile == null) {
+            return new SignatureResult(SignatureResult.Status.KEY_NOT_FOUND, System.nanoTime() - start,
+                    CryptoPrimitives.PRIVATE_KEY_FILE);
+        }
 
-        } catch (Exception e) {
-            System.err.println("Błąd podczas podpisywania PDF: " + e.getMessage());
-            e.printStackTrace();
-            return false;
+        PrivateKey privateKey;
+        try {
+            privateKey = KeyCodec.decryptPrivateKey(Files.readAllBytes(encryptedKeyFile.toPath()), pin);
+        } catch (IOException e) {
+            return new SignatureResult(SignatureResult.Status.IO_ERROR, System.nanoTime() - start, e.getMessage());
+        } catch (GeneralSecurityException e) {
+            return new SignatureResult(SignatureResult.Status.WRONG_PIN, System.nanoTime() - start, null);
+        } catch (IllegalArgumentException e) {
+            // nieprawidłowy Base64 - plik klucza jest uszkodzony niezależnie od PIN-u
+            return new SignatureResult(SignatureResult.Status.ERROR, System.nanoTime() - start,
+                    "Uszkodzony plik " + CryptoPrimitives.PRIVATE_KEY_FILE + ": " + e.getMessage());
         }
+
+        return new Signer(privateKey).sign(Paths.get(filePath)).withElapsedNanos(System.nanoTime() - start);
     }
 
     /**
@@ -113,38 +138,138 @@ public class PdfSigner {
      * 4. Weryfikuje podpis przy użyciu klucza publicznego
      *
      * @param filePath Ścieżka do pliku PDF do weryfikacji
+     * @return SignatureResult - VALID, INVALID, MISSING_SIGNATURE, REVOKED, KEY_NOT_FOUND,
+     *         IO_ERROR lub ERROR
+     *
+     * @note Wymaga istnienia pliku podpisu o nazwie {filePath}.sig
+     * @see #sign(String, String)
+     * @see Verifier#verify(Path)
+     */
+    public static SignatureResult verify(String filePath) {
+        long start = System.nanoTime();
+        Path publicKeyPath = Paths.get(PUBLIC_KEY_PATH);
+        if (!Files.isRegularFile(publicKeyPath)) {
+            return new SignatureResult(SignatureResult.Status.KEY_NOT_FOUND, System.nanoTime() - start,
+                    PUBLIC_KEY_PATH);
+        }
+
+        PublicKey publicKey;
+        try {
+            publicKey = loadPublicKey();
+        } catch (IOException e) {
+            return new SignatureResult(SignatureResult.Status.IO_ERROR, System.nanoTime() - start, e.getMessage());
+        } catch (Exception e) {
+            return new SignatureResult(SignatureResult.Status.ERROR, System.nanoTime() - start, e.getMessage());
+        }
+
+        return new Verifier(publicKey).verify(Paths.get(filePath)).withElapsedNanos(System.nanoTime() - start);
+    }
+
+    /**
+     * @brief Podpisuje dokument PDF podpisem cyfrowym przy użyciu klucza RSA
+     *
+     * @param filePath Ścieżka do pliku PDF do podpisania
+     * @param pin PIN służący do odszyfrowania klucza prywatnego
+     * @return true - jeśli operacja podpisania się powiodła, false - w przeciwnym razie
+     *
+     * @see #sign(String, String)
+     */
+    public static boolean signPDF(String filePath, String pin) {
+        return report(sign(filePath, pin), "Błąd podczas podpisywania PDF: ");
+    }
+
+    /**
+     * @brief Weryfikuje podpis cyfrowy dokumentu PDF na podstawie klucza publicznego
+     *
+     * @param filePath Ścieżka do pliku PDF do weryfikacji
      * @return true - jeśli podpis jest prawidłowy i dokument nie został zmodyfikowany,
      *         false - w przeciwnym razie
      *
-     * @throws Exception W przypadku błędów kryptograficznych lub I/O
-     *
-     * @note Wymaga istnienia pliku podpisu o nazwie {filePath}.sig
-     * @see #signPDF(String, String)
+     * @see #verify(String)
      */
     public static boolean verifyPDFSignature(String filePath) {
-        try {
-            byte[] pubBytes = Base64.getDecoder().decode(
-                    Files.readString(Paths.get(PUBLIC_KEY_PATH))
-            );
-            X509EncodedKeySpec pubKeySpec = new X509EncodedKeySpec(pubBytes);
-            PublicKey publicKey = KeyFactory.getInstance(RSA_ALGORITHM)
-                    .generatePublic(pubKeySpec);
+        return report(verify(filePath), "Błąd podczas weryfikacji podpisu PDF: ");
+    }
 
-            byte[] pdfData = Files.readAllBytes(Paths.get(filePath));
-            byte[] pdfHash = MessageDigest.getInstance(HASH_ALGORITHM).digest(pdfData);
+    /**
+     * @brief Wyszukuje i odszyfrowuje klucz prywatny z nośnika zewnętrznego
+     *
+     * Pozwala odszyfrować klucz raz i podpisać nim wiele dokumentów,
+     * bez ponownego podawania PIN-u dla każdego pliku.
+     *
+     * @param pin PIN służący do odszyfrowania klucza prywatnego
+     * @return PrivateKey - odszyfrowany klucz prywatny RSA
+     * @throws FileNotFoundException Jeśli na żadnym nośniku nie ma pliku klucza
+     * @throws Exception W przypadku błędnego PIN-u lub błędów I/O
+     *
+     * @see Signer#Signer(PrivateKey)
+     * @see SigningQueuePanel
+     */
+    public static PrivateKey unlockPrivateKey(String pin) throws Exception {
+        File encryptedKeyFile = findEncryptedPrivateKey();
+        if (encryptedKeyFile == null) {
+            throw new FileNotFoundException("Nie znaleziono zaszyfrowanego klucza prywatnego");
+        }
+        return KeyCodec.decryptPrivateKey(Files.readAllBytes(encryptedKeyFile.toPath()), pin);
+    }
 
-            byte[] signatureBytes = Files.readAllBytes(Paths.get(filePath + ".sig"));
+    /**
+     * @brief Wczytuje klucz publiczny z pliku PEM zapisanego przez KeyGenerator
+     *
+     * Pozwala wczytać klucz raz i zweryfikować nim wiele dokumentów.
+     *
+     * @return PublicKey - klucz publiczny RSA
+     * @throws Exception W przypadku błędów I/O lub uszkodzonego klucza
+     *
+     * @see Verifier#Verifier(PublicKey)
+     */
+    public static PublicKey loadPublicKey() throws Exception {
+        return KeyCodec.decodePublicKey(Files.readString(Paths.get(PUBLIC_KEY_PATH)));
+    }
 
-            Signature signature = Signature.getInstance(SIGNATURE_ALGORITHM);
-            signature.initVerify(publicKey);
-            signature.update(pdfHash);
-            return signature.verify(signatureBytes);
+    /**
+     * @brief Zwraca ścieżkę do pliku podpisu dla dokumentu PDF
+     *
+     * @param pdfFile Ścieżka do pliku PDF
+     * @return Path - ścieżka {pdfFile}.sig
+     */
+    static Path signaturePath(Path pdfFile) {
+        return pdfFile.resolveSibling(pdfFile.getFileName() + ".sig");
+    }
 
-        } catch (Exception e) {
-            System.err.println("Błąd podczas weryfikacji podpisu PDF: " + e.getMessage());
-            e.printStackTrace();
-            return false;
+    /**
+     * @brief Oblicza hash SHA-256 pliku, czytając go fragmentami do bufora wątku
+     *
+     * @param file Ścieżka do pliku
+     * @return byte[] - hash SHA-256 zawartości pliku
+     * @throws IOException W przypadku błędów odczytu
+     */
+    static byte[] hashFile(Path file) throws IOException {
+        MessageDigest digest = CryptoPrimitives.digest();
+        ByteBuffer buffer = READ_BUFFER.get();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer.clear();
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return digest.digest();
+    }
+
+    /**
+     * @brief Wypisuje jednowierszowy komunikat o niepowodzeniu i zamienia wynik na boolean
+     *
+     * @param result Wynik operacji
+     * @param prefix Początek komunikatu o błędzie
+     * @return true - jeśli operacja się powiodła
+     */
+    private static boolean report(SignatureResult result, String prefix) {
+        if (!result.isSuccess()) {
+            System.err.println(prefix + result.getMessage());
         }
+        return result.isSuccess();
     }
 
     /**
@@ -152,18 +277,19 @@ public class PdfSigner {
      *
      * @return File - obiekt pliku z zaszyfrowanym kluczem prywatnym lub null - jeśli nie znaleziono
      *
-     * @see #signPDF(String, String)
+     * @see #sign(String, String)
+     * @see #unlockPrivateKey(String)
      */
     private static File findEncryptedPrivateKey() {
         File[] roots = File.listRoots();
         for (File root : roots) {
-            File keyFile = new File(root, PRIVATE_KEY_FILE);
+            File keyFile = new File(root, CryptoPrimitives.PRIVATE_KEY_FILE);
             if (keyFile.exists() && keyFile.canRead()) {
                 System.out.println("Znaleziono klucz prywatny: " + keyFile.getAbsolutePath());
                 return keyFile;
             }
         }
-        System.err.println("Nie znaleziono pliku klucza prywatnego: " + PRIVATE_KEY_FILE);
+        System.err.println("Nie znaleziono pliku klucza prywatnego: " + CryptoPrimitives.PRIVATE_KEY_FILE);
         return null;
     }
-}
\ No newline at end of file
+}
@@ -112,6 +112,7 @@ public class PdfSignerGUI {
 
         JButton signButton = createButton("Podpisz PDF");
         JButton verifyButton = createButton("Zweryfikuj podpis");
+        JButton queueButton = createButton("Kolejka plików...");
 
         JLabel statusLabel = new JLabel("Status:");
         statusLabel.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 12));
@@ -134,6 +135,9 @@ public class PdfSignerGUI {
         gbc.gridx = 1; gbc.gridy = 1; gbc.gridwidth = 2; gbc.fill = GridBagConstraints.HORIZONTAL;
         panel.add(pinField, gbc);
 
+        gbc.gridx = 3; gbc.gridy = 1; gbc.gridwidth = 1; gbc.fill = GridBagConstraints.NONE;
+        panel.add(queueButton, gbc);
+
         // wiersz 3 - przyciski podpisu i weryfikacji
         gbc.gridx = 0; gbc.gridy = 2; gbc.gridwidth = 2; gbc.fill = GridBagConstraints.HORIZONTAL;
         panel.add(signButton, gbc);
@@ -169,7 +173,8 @@ public class PdfSignerGUI {
     /**
      * @brief Konfiguruje obsługę zdarzeń dla wszystkich interaktywnych komponentów
      *
-     * Dodaje akcje dla przycisków przeglądania plików, podpisywania oraz weryfikacji.
+     * Dodaje akcje dla przycisków przeglądania plików, podpisywania, weryfikacji
+     * oraz otwierania kolejki wielu plików.
      * Implementuje walidację danych wejściowych i wyświetlanie komunikatów o statusie.
      *
      * @param frame Główne okno aplikacji
@@ -177,8 +182,9 @@ public class PdfSignerGUI {
      * @param pinField Pole PIN-u
      * @param statusText Etykieta statusu
      *
-     * @see PdfSigner#signPDF(String, String)
-     * @see PdfSigner#verifyPDFSignature(String)
+     * @see PdfSigner#sign(String, String)
+     * @see PdfSigner#verify(String)
+     * @see SigningQueuePanel#showWindow(Component)
      */
     private static void setupEventHandlers(JFrame frame, JTextField filePathField,
                                            JPasswordField pinField, JLabel statusText) {
@@ -186,6 +192,7 @@ public class PdfSignerGUI {
         JButton browseButton = findButtonByText(frame, "Przeglądaj...");
         JButton signButton = findButtonByText(frame, "Podpisz PDF");
         JButton verifyButton = findButtonByText(frame, "Zweryfikuj podpis");
+        JButton queueButton = findButtonByText(frame, "Kolejka plików...");
 
         if (browseButton != null) {
             browseButton.addActionListener(e -> handleFileBrowsing(frame, filePathField, statusText));
@@ -198,6 +205,10 @@ public class PdfSignerGUI {
         if (verifyButton != null) {
             verifyButton.addActionListener(e -> handleSignatureVerification(filePathField, statusText));
         }
+
+        if (queueButton != null) {
+            queueButton.addActionListener(e -> SigningQueuePanel.showWindow(frame));
+        }
     }
 
     /**
@@ -276,14 +287,9 @@ public class PdfSignerGUI {
         statusText.setForeground(Color.BLUE);
 
         SwingUtilities.invokeLater(() -> {
-            boolean success = PdfSigner.signPDF(filePath, pin);
-            if (success) {
-                statusText.setText("Dokument podpisany pomyślnie");
-                statusText.setForeground(new Color(0, 128, 0));
-            } else {
-                statusText.setText("Błąd podczas podpisywania dokumentu");
-                statusText.setForeground(Color.RED);
-            }
+            SignatureResult result = PdfSigner.sign(filePath, pin);
+            statusText.setText(result.getMessage());
+            statusText.setForeground(result.isSuccess() ? new Color(0, 128, 0) : Color.RED);
 
             pinField.setText("");
         });
@@ -325,14 +331,9 @@ public class PdfSignerGUI {
         statusText.setForeground(Color.BLUE);
 
         SwingUtilities.invokeLater(() -> {
-            boolean valid = PdfSigner.verifyPDFSignature(filePath);
-            if (valid) {
-                statusText.setText("Podpis jest prawidłowy - dokument nie został zmodyfikowany");
-                statusText.setForeground(new Color(0, 128, 0));
-            } else {
-                statusText.setText("Podpis jest nieprawidłowy lub dokument został zmodyfikowany");
-                statusText.setForeground(Color.RED);
-            }
+            SignatureResult result = PdfSigner.verify(filePath);
+            statusText.setText(result.getMessage());
+            statusText.setForeground(result.isSuccess() ? new Color(0, 128, 0) : Color.RED);
         });
     }
 }
\ No newline at end of file
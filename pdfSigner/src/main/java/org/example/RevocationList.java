@@ -0,0 +1,271 @@
+package org.example;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @file RevocationList.java
+ * @brief Lista unieważnionych kluczy publicznych z filtrem Blooma w pamięci
+ *
+ * Klasa RevocationList przechowuje odciski (SHA-256) unieważnionych kluczy publicznych.
+ * Zapytanie najpierw sprawdza filtr Blooma - dla klucza nieunieważnionego (typowy przypadek)
+ * kończy się po kilku odczytach z pamięci. Tylko trafienie w filtrze jest potwierdzane
+ * wyszukiwaniem binarnym w posortowanej tablicy odcisków, więc fałszywe trafienia
+ * filtru nigdy nie odrzucają poprawnego podpisu.
+ *
+ * Plik listy zawiera jeden odcisk w zapisie szesnastkowym na wiersz (dwukropki są pomijane),
+ * wiersze puste i zaczynające się od # są ignorowane.
+ *
+ * Wczytanie nowej listy buduje nową, niezmienną migawkę i podmienia ją atomowo,
+ * więc trwające weryfikacje nie są blokowane ani nie widzą stanu pośredniego.
+ *
+ * Nieudane wczytanie (błąd odczytu lub nieprawidłowy wiersz) oznacza listę jako niedostępną
+ * do czasu udanego wczytania - weryfikacja zwraca wtedy błąd zamiast pomijać sprawdzenie,
+ * aby literówka w pliku nie sprawiła, że podpisy unieważnionych kluczy będą uznawane.
+ *
+ * @see KeyCodec#fingerprint
+ * @see Verifier#verify(Path)
+ */
+public final class RevocationList {
+
+    /** @brief Długość odcisku klucza w bajtach (SHA-256) */
+    private static final int FINGERPRINT_LENGTH = 32;
+
+    /** @brief Liczba bitów filtru na jeden wpis (ok. 1% fałszywych trafień przy 7 funkcjach) */
+    private static final int BITS_PER_ENTRY = 10;
+
+    /** @brief Liczba funkcji skrótu filtru Blooma */
+    private static final int HASH_COUNT = 7;
+
+    /** @brief Bieżąca migawka listy */
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /** @brief Opis błędu ostatniego wczytania lub null, jeśli lista jest dostępna */
+    private volatile String failure;
+
+    /**
+     * @brief Wczytuje listę z pliku i atomowo zastępuje bieżącą
+     *
+     * W przypadku błędu lista jest oznaczana jako niedostępna (zob. getFailure)
+     * do czasu następnego udanego wczytania.
+     *
+     * @param file Plik z odciskami unieważnionych kluczy
+     * @throws IOException W przypadku błędu odczytu
+     * @throws IllegalArgumentException Jeśli plik zawiera nieprawidłowy odcisk
+     */
+    public void reload(Path file) throws IOException {
+        try {
+            List<byte[]> fingerprints = new ArrayList<>();
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String line;
+                int lineNumber = 0;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    String entry = line.replace(":", "").trim();
+                    if (entry.isEmpty() || entry.startsWith("#")) {
+                        continue;
+                    }
+                    fingerprints.add(parseHex(entry, lineNumber));
+                }
+            }
+            snapshot = Snapshot.build(fingerprints);
+            failure = null;
+        } catch (IOException | RuntimeException e) {
+            failure = file + ": " + e.getMessage();
+            throw e;
+        }
+    }
+
+    /**
+     * @brief Zwraca przyczynę niedostępności listy
+     *
+     * @return String - opis błędu ostatniego wczytania lub null, jeśli listy można używać
+     */
+    public String getFailure() {
+        return failure;
+    }
+
+    /**
+     * @brief Sprawdza, czy odcisk klucza znajduje się na liście
+     *
+     * @param fingerprint 32-bajtowy odcisk SHA-256 klucza publicznego
+     * @return true - jeśli odcisk znajduje się na liście
+     */
+    public boolean isRevoked(byte[] fingerprint) {
+        return fingerprint.length == FINGERPRINT_LENGTH && snapshot.contains(fingerprint);
+    }
+
+    /**
+     * @brief Zwraca liczbę unieważnionych kluczy na bieżącej liście
+     *
+     * @return int - liczba wpisów
+     */
+    public int size() {
+        return snapshot.size;
+    }
+
+    /**
+     * @brief Zamienia odcisk zapisany szesnastkowo na tablicę bajtów
+     *
+     * @param hex Odcisk w zapisie szesnastkowym
+     * @param lineNumber Numer wiersza (do komunikatu o błędzie)
+     * @return byte[] - odcisk klucza
+     */
+    private static byte[] parseHex(String hex, int lineNumber) {
+        if (hex.length() != FINGERPRINT_LENGTH * 2) {
+            throw new IllegalArgumentException("Nieprawidłowy odcisk klucza w wierszu " + lineNumber);
+        }
+        byte[] bytes = new byte[FINGERPRINT_LENGTH];
+        for (int i = 0; i < bytes.length; i++) {
+            int high = Character.digit(hex.charAt(2 * i), 16);
+            int low = Character.digit(hex.charAt(2 * i + 1), 16);
+            if (high < 0 || low < 0) {
+                throw new IllegalArgumentException("Nieprawidłowy odcisk klucza w wierszu " + lineNumber);
+            }
+            bytes[i] = (byte) ((high << 4) | low);
+        }
+        return bytes;
+    }
+
+    /**
+     * @brief Niezmienna migawka listy: filtr Blooma i posortowane odciski
+     */
+    private static final class Snapshot {
+
+        /** @brief Pusta lista */
+        static final Snapshot EMPTY = new Snapshot(new long[1], new byte[0], 0);
+
+        /** @brief Bity filtru Blooma; liczba bitów jest potęgą dwójki */
+        private final long[] bits;
+
+        /** @brief Maska indeksu bitu */
+        private final long mask;
+
+        /** @brief Posortowane, unikalne odciski zapisane jeden za drugim */
+        private final byte[] sorted;
+
+        /** @brief Liczba odcisków */
+        final int size;
+
+        private Snapshot(long[] bits, byte[] sorted, int size) {
+            this.bits = bits;
+            this.mask = (long) bits.length * Long.SIZE - 1;
+            this.sorted = sorted;
+            this.size = size;
+        }
+
+        /**
+         * @brief Buduje migawkę z listy odcisków
+         *
+         * @param fingerprints Odciski kluczy (mogą się powtarzać)
+         * @return Snapshot - nowa migawka
+         */
+        static Snapshot build(List<byte[]> fingerprints) {
+            byte[][] unique = fingerprints.toArray(new byte[0][]);
+            Arrays.sort(unique, Arrays::compareUnsigned);
+
+            int size = 0;
+            for (int i = 0; i < unique.length; i++) {
+                if (size == 0 || !Arrays.equals(unique[size - 1], unique[i])) {
+                    unique[size++] = unique[i];
+                }
+            }
+
+            long bitCount = Long.highestOneBit(Math.max(Long.SIZE, (long) size * BITS_PER_ENTRY - 1)) << 1;
+            long[] bits = new long[(int) (bitCount / Long.SIZE)];
+            byte[] sorted = new byte[size * FINGERPRINT_LENGTH];
+
+            Snapshot snapshot = new Snapshot(bits, sorted, size);
+            for (int i = 0; i < size; i++) {
+                System.arraycopy(unique[i], 0, sorted, i * FINGERPRINT_LENGTH, FINGERPRINT_LENGTH);
+                snapshot.addToFilter(unique[i]);
+            }
+            return snapshot;
+        }
+
+        /**
+         * @brief Sprawdza obecność odcisku: filtr Blooma, a przy trafieniu wyszukiwanie binarne
+         *
+         * @param fingerprint Odcisk klucza
+         * @return true - jeśli odcisk znajduje się na liście
+         */
+        boolean contains(byte[] fingerprint) {
+            if (size == 0 || !mightContain(fingerprint)) {
+                return false;
+            }
+
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int offset = middle * FINGERPRINT_LENGTH;
+                int cmp = Arrays.compareUnsigned(sorted, offset, offset + FINGERPRINT_LENGTH,
+                        fingerprint, 0, FINGERPRINT_LENGTH);
+                if (cmp < 0) {
+                    low = middle + 1;
+                } else if (cmp > 0) {
+                    high = middle - 1;
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * @brief Ustawia bity filtru dla odcisku
+         *
+         * Odcisk SHA-256 jest już równomiernie rozłożony, więc indeksy bitów są wyznaczane
+         * bezpośrednio z jego bajtów (podwójne haszowanie h1 + i * h2) bez dodatkowej funkcji skrótu.
+         *
+         * @param fingerprint Odcisk klucza
+         */
+        private void addToFilter(byte[] fingerprint) {
+            long h1 = readLong(fingerprint, 0);
+            long h2 = readLong(fingerprint, 8) | 1;
+            for (int i = 0; i < HASH_COUNT; i++) {
+                long index = (h1 + i * h2) & mask;
+                bits[(int) (index >>> 6)] |= 1L << index;
+            }
+        }
+
+        /**
+         * @brief Sprawdza, czy wszystkie bity filtru dla odcisku są ustawione
+         *
+         * @param fingerprint Odcisk klucza
+         * @return false - jeśli odcisku na pewno nie ma na liście
+         */
+        private boolean mightContain(byte[] fingerprint) {
+            long h1 = readLong(fingerprint, 0);
+            long h2 = readLong(fingerprint, 8) | 1;
+            for (int i = 0; i < HASH_COUNT; i++) {
+                long index = (h1 + i * h2) & mask;
+                if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * @brief Odczytuje 8 bajtów jako liczbę long (big-endian)
+         *
+         * @param bytes Tablica bajtów
+         * @param offset Początek odczytu
+         * @return long - odczytana wartość
+         */
+        private static long readLong(byte[] bytes, int offset) {
+            long value = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                value = (value << 8) | (bytes[offset + i] & 0xFF);
+            }
+            return value;
+        }
+    }
+}
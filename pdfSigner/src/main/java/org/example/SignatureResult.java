@@ -0,0 +1,138 @@
+package org.example;
+
+/**
+ * @file SignatureResult.java
+ * @brief Wynik operacji podpisywania lub weryfikacji dokumentu PDF
+ *
+ * Klasa SignatureResult zastępuje wynik typu boolean - pozwala odróżnić nieprawidłowy
+ * podpis od brakującego pliku .sig, błędnego PIN-u czy błędu I/O, i zawiera czas trwania operacji.
+ * Oczekiwane niepowodzenia (brak podpisu, brak pliku, nieprawidłowy podpis) są wykrywane
+ * bez zgłaszania wyjątków.
+ *
+ * @see Signer
+ * @see Verifier
+ */
+public final class SignatureResult {
+
+    /**
+     * @brief Rodzaj wyniku operacji
+     */
+    public enum Status {
+        /** @brief Dokument został podpisany */
+        SIGNED("Dokument podpisany pomyślnie"),
+        /** @brief Podpis jest prawidłowy */
+        VALID("Podpis jest prawidłowy - dokument nie został zmodyfikowany"),
+        /** @brief Podpis nie pasuje do dokumentu lub klucza */
+        INVALID("Podpis jest nieprawidłowy lub dokument został zmodyfikowany"),
+        /** @brief Brak pliku podpisu .sig */
+        MISSING_SIGNATURE("Nie znaleziono pliku podpisu (.sig)"),
+        /** @brief Klucz podpisujący znajduje się na liście unieważnionych */
+        REVOKED("Klucz publiczny został unieważniony"),
+        /** @brief Nie znaleziono pliku klucza */
+        KEY_NOT_FOUND("Nie znaleziono klucza"),
+        /** @brief PIN nie pozwolił odszyfrować klucza prywatnego */
+        WRONG_PIN("Nieprawidłowy PIN"),
+        /** @brief Błąd odczytu lub zapisu pliku */
+        IO_ERROR("Błąd odczytu lub zapisu pliku"),
+        /** @brief Nieoczekiwany błąd kryptograficzny */
+        ERROR("Nieoczekiwany błąd");
+
+        /** @brief Opis wyniku wyświetlany użytkownikowi */
+        private final String description;
+
+        Status(String description) {
+            this.description = description;
+        }
+
+        /**
+         * @brief Zwraca opis wyniku
+         *
+         * @return String - opis wyniku w języku polskim
+         */
+        public String getDescription() {
+            return description;
+        }
+
+        /**
+         * @brief Sprawdza, czy wynik oznacza powodzenie operacji
+         *
+         * @return true - dla SIGNED i VALID
+         */
+        public boolean isSuccess() {
+            return this == SIGNED || this == VALID;
+        }
+    }
+
+    /** @brief Rodzaj wyniku */
+    private final Status status;
+
+    /** @brief Czas trwania operacji w nanosekundach */
+    private final long elapsedNanos;
+
+    /** @brief Szczegóły błędu lub null */
+    private final String detail;
+
+    /**
+     * @brief Tworzy wynik operacji
+     *
+     * @param status Rodzaj wyniku
+     * @param elapsedNanos Czas trwania operacji w nanosekundach
+     * @param detail Szczegóły błędu lub null
+     */
+    SignatureResult(Status status, long elapsedNanos, String detail) {
+        this.status = status;
+        this.elapsedNanos = elapsedNanos;
+        this.detail = detail;
+    }
+
+    /**
+     * @brief Zwraca rodzaj wyniku
+     *
+     * @return Status - rodzaj wyniku
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * @brief Sprawdza, czy operacja się powiodła
+     *
+     * @return true - jeśli dokument podpisano lub podpis jest prawidłowy
+     */
+    public boolean isSuccess() {
+        return status.isSuccess();
+    }
+
+    /**
+     * @brief Zwraca czas trwania operacji
+     *
+     * @return long - czas w nanosekundach
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @brief Zwraca komunikat dla użytkownika
+     *
+     * @return String - opis wyniku, uzupełniony o szczegóły błędu, jeśli są dostępne
+     */
+    public String getMessage() {
+        return detail == null ? status.getDescription() : status.getDescription() + ": " + detail;
+    }
+
+    /**
+     * @brief Zwraca kopię wyniku z innym czasem trwania
+     *
+     * @param elapsedNanos Czas trwania całej operacji w nanosekundach
+     * @return SignatureResult - wynik z podanym czasem trwania
+     */
+    SignatureResult withElapsedNanos(long elapsedNanos) {
+        return new SignatureResult(status, elapsedNanos, detail);
+    }
+
+    @Override
+    public String toString() {
+        return status + " (" + elapsedNanos / 1_000_000 + " ms)" + (detail == null ? "" : ": " + detail);
+    }
+}
@@ -0,0 +1,87 @@
+package org.example;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.Signature;
+
+/**
+ * @file Signer.java
+ * @brief Wielokrotnego użytku obiekt podpisujący dokumenty PDF jednym kluczem prywatnym
+ *
+ * Klasa Signer jest przeznaczona do osadzania w usługach, które podpisują wiele dokumentów:
+ * klucz jest odszyfrowywany raz, a każde wywołanie sign zwraca SignatureResult zamiast
+ * zgłaszać wyjątek. Instancja jest bezpieczna wątkowo - funkcja skrótu i bufory odczytu
+ * są przypisane do wątków, a obiekt Signature jest tworzony dla każdego podpisu,
+ * aby nie przechowywał klucza prywatnego po zakończeniu operacji.
+ *
+ * @code
+ * Signer signer = new Signer(PdfSigner.unlockPrivateKey(pin));
+ * SignatureResult result = signer.sign(Paths.get("dokument.pdf"));
+ * @endcode
+ *
+ * @see Verifier
+ * @see PdfSigner#sign(String, String)
+ */
+public final class Signer {
+
+    /** @brief Klucz prywatny RSA */
+    private final PrivateKey privateKey;
+
+    /**
+     * @brief Tworzy obiekt podpisujący dla odszyfrowanego klucza prywatnego
+     *
+     * @param privateKey Klucz prywatny RSA
+     *
+     * @see PdfSigner#unlockPrivateKey(String)
+     */
+    public Signer(PrivateKey privateKey) {
+        this.privateKey = privateKey;
+    }
+
+    /**
+     * @brief Podpisuje dokument PDF i zapisuje podpis do pliku {filePath}.sig
+     *
+     * @param pdfFile Ścieżka do pliku PDF
+     * @return SignatureResult - SIGNED, IO_ERROR lub ERROR wraz z czasem trwania
+     */
+    public SignatureResult sign(Path pdfFile) {
+        long start = System.nanoTime();
+        if (!Files.isRegularFile(pdfFile)) {
+            return new SignatureResult(SignatureResult.Status.IO_ERROR, System.nanoTime() - start,
+                    "Plik nie istnieje");
+        }
+
+        try {
+            byte[] pdfHash = PdfSigner.hashFile(pdfFile);
+
+            Signature signature = CryptoPrimitives.signSignature();
+            signature.initSign(privateKey);
+            signature.update(pdfHash);
+            byte[] digitalSignature = signature.sign();
+
+            Files.write(PdfSigner.signaturePath(pdfFile), digitalSignature);
+            return new SignatureResult(SignatureResult.Status.SIGNED, System.nanoTime() - start, null);
+
+        } catch (IOException e) {
+            return new SignatureResult(SignatureResult.Status.IO_ERROR, System.nanoTime() - start, e.getMessage());
+        } catch (GeneralSecurityException e) {
+            return new SignatureResult(SignatureResult.Status.ERROR, System.nanoTime() - start, e.getMessage());
+        }
+    }
+
+    /**
+     * @brief Podpisuje dokument PDF o podanej ścieżce
+     *
+     * @param filePath Ścieżka do pliku PDF
+     * @return SignatureResult - wynik operacji
+     *
+     * @see #sign(Path)
+     */
+    public SignatureResult sign(String filePath) {
+        return sign(Paths.get(filePath));
+    }
+}
@@ -0,0 +1,693 @@
+package org.example;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.awt.datatransfer.DataFlavor;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.PrivateKey;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * @file SigningQueuePanel.java
+ * @brief Panel kolejki do podpisywania wielu dokumentów PDF naraz
+ *
+ * Pliki PDF i całe foldery można przeciągnąć do tabeli lub dodać przyciskiem.
+ * Po jednokrotnym podaniu PIN-u klucz prywatny jest odszyfrowywany raz, a dokumenty
+ * są podpisywane równolegle przez pulę wątków o rozmiarze równym liczbie rdzeni.
+ * Każdy wiersz pokazuje stan, przepustowość i wynik; wiersze można wstrzymywać,
+ * anulować i ponawiać.
+ *
+ * Wątki robocze nie dotykają komponentów Swing - tabela jest odświeżana
+ * przez javax.swing.Timer, dzięki czemu okno pozostaje responsywne nawet przy tysiącach plików.
+ *
+ * @see PdfSigner#unlockPrivateKey(String)
+ * @see Signer#sign(Path)
+ */
+public class SigningQueuePanel extends JPanel {
+
+    /** @brief Kolor tła panelu */
+    private static final Color BACKGROUND_COLOR = new Color(255, 218, 232);
+
+    /** @brief Kolor przycisków */
+    private static final Color BUTTON_COLOR = new Color(255, 128, 174);
+
+    /** @brief Margines wewnętrzny panelu */
+    private static final int PANEL_MARGIN = 10;
+
+    /** @brief Szerokość pola PIN-u */
+    private static final int TEXT_FIELD_WIDTH = 15;
+
+    /** @brief Okres odświeżania tabeli w milisekundach */
+    private static final int REFRESH_INTERVAL_MS = 200;
+
+    /** @brief Liczba wątków roboczych */
+    private static final int WORKER_COUNT = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * @brief Stan pojedynczego wiersza kolejki
+     */
+    enum State {
+        QUEUED("Oczekuje"),
+        PAUSED("Wstrzymany"),
+        RUNNING("Podpisywanie..."),
+        SIGNED("Podpisany"),
+        FAILED("Błąd"),
+        CANCELLED("Anulowany");
+
+        /** @brief Nazwa stanu wyświetlana w tabeli */
+        private final String label;
+
+        State(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * @brief Pojedynczy dokument w kolejce
+     *
+     * Pola są modyfikowane przez wątki robocze i odczytywane przez wątek EDT,
+     * dlatego są volatile lub atomowe.
+     */
+    static final class Entry {
+
+        /** @brief Plik PDF do podpisania */
+        final File file;
+
+        /** @brief Bieżący stan wiersza */
+        final AtomicReference<State> state = new AtomicReference<>(State.QUEUED);
+
+        /** @brief Przepustowość ostatniego podpisywania w bajtach na sekundę */
+        volatile double bytesPerSecond;
+
+        /** @brief Opis wyniku */
+        volatile String result = "";
+
+        /** @brief Zadanie w puli wątków, jeśli zostało przekazane */
+        volatile Future<?> task;
+
+        /** @brief Numer próby; wynik starszej, anulowanej próby nie nadpisuje nowszej */
+        volatile int attempt;
+
+        /**
+         * @brief Czy wątek roboczy wykonuje właśnie podpisywanie tego pliku
+         *
+         * Future.isDone() zwraca true zaraz po cancel(), choć wątek może być
+         * nadal wewnątrz Signer.sign - ta flaga jest ustawiana i czyszczona w samym zadaniu.
+         */
+        final AtomicBoolean inFlight = new AtomicBoolean();
+
+        Entry(File file) {
+            this.file = file;
+        }
+    }
+
+    /** @brief Model tabeli kolejki */
+    private final QueueTableModel model = new QueueTableModel();
+
+    /** @brief Tabela z wierszami kolejki */
+    private final JTable table = new JTable(model);
+
+    /** @brief Pole PIN-u, podawanego raz dla całej kolejki */
+    private final JPasswordField pinField = new JPasswordField(TEXT_FIELD_WIDTH);
+
+    /** @brief Etykieta podsumowania */
+    private final JLabel summaryText = new JLabel("Przeciągnij tutaj pliki PDF lub foldery");
+
+    /** @brief Pula wątków podpisujących dokumenty */
+    private final ExecutorService workers = Executors.newFixedThreadPool(WORKER_COUNT, runnable -> {
+        Thread thread = new Thread(runnable, "pdf-signing-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** @brief Obiekt podpisujący z odszyfrowanym kluczem lub null, jeśli PIN nie został jeszcze podany */
+    private volatile Signer signer;
+
+    /** @brief Czy od ostatniego odświeżenia zmienił się stan któregoś wiersza */
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    /** @brief Liczba bajtów podpisanych od uruchomienia kolejki */
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    /** @brief Moment uruchomienia kolejki (System.nanoTime) */
+    private volatile long startNanos;
+
+    /** @brief Liczba wierszy w trakcie podpisywania */
+    private final AtomicInteger running = new AtomicInteger();
+
+    /** @brief Timer odświeżający tabelę */
+    private final Timer refreshTimer = new Timer(REFRESH_INTERVAL_MS, e -> refresh());
+
+    /**
+     * @brief Tworzy panel kolejki z tabelą, przyciskami i obsługą przeciągania plików
+     */
+    public SigningQueuePanel() {
+        super(new BorderLayout(PANEL_MARGIN, PANEL_MARGIN));
+        setBackground(BACKGROUND_COLOR);
+        setBorder(new EmptyBorder(PANEL_MARGIN, PANEL_MARGIN, PANEL_MARGIN, PANEL_MARGIN));
+
+        table.setFillsViewportHeight(true);
+        table.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
+        table.getColumnModel().getColumn(0).setPreferredWidth(320);
+
+        TransferHandler dropHandler = new FileDropHandler();
+        table.setTransferHandler(dropHandler);
+        setTransferHandler(dropHandler);
+
+        add(createTopBar(), BorderLayout.NORTH);
+        add(new JScrollPane(table), BorderLayout.CENTER);
+        add(createBottomBar(), BorderLayout.SOUTH);
+
+        refreshTimer.start();
+    }
+
+    /**
+     * @brief Zatrzymuje odświeżanie i pulę wątków po zamknięciu okna
+     */
+    @Override
+    public void removeNotify() {
+        super.removeNotify();
+        refreshTimer.stop();
+        // bez przerywania - przerwany zapis pliku .sig mógłby zostawić go pustym lub obciętym
+        workers.shutdown();
+    }
+
+    /**
+     * @brief Otwiera okno kolejki podpisywania
+     *
+     * @param owner Okno nadrzędne, względem którego okno jest wyśrodkowane
+     */
+    public static void showWindow(Component owner) {
+        JFrame frame = new JFrame("BSK - Kolejka podpisywania");
+        frame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+        frame.setSize(800, 450);
+        frame.add(new SigningQueuePanel());
+        frame.setLocationRelativeTo(owner);
+        frame.setVisible(true);
+    }
+
+    /**
+     * @brief Tworzy górny pasek z polem PIN-u i przyciskami kolejki
+     *
+     * @return JPanel - pasek z komponentami
+     */
+    private JPanel createTopBar() {
+        JPanel bar = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        bar.setOpaque(false);
+
+        JLabel pinLabel = new JLabel("PIN:");
+        pinLabel.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 12));
+
+        JButton addButton = createButton("Dodaj pliki...");
+        JButton signButton = createButton("Podpisz wszystkie");
+        addButton.addActionListener(e -> handleFileBrowsing());
+        signButton.addActionListener(e -> handleQueueStart());
+
+        bar.add(pinLabel);
+        bar.add(pinField);
+        bar.add(signButton);
+        bar.add(addButton);
+        return bar;
+    }
+
+    /**
+     * @brief Tworzy dolny pasek z akcjami dla zaznaczonych wierszy i podsumowaniem
+     *
+     * @return JPanel - pasek z komponentami
+     */
+    private JPanel createBottomBar() {
+        JPanel bar = new JPanel(new BorderLayout());
+        bar.setOpaque(false);
+
+        JPanel buttons = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        buttons.setOpaque(false);
+
+        JButton pauseButton = createButton("Wstrzymaj");
+        JButton resumeButton = createButton("Wznów");
+        JButton cancelButton = createButton("Anuluj");
+        JButton retryButton = createButton("Ponów");
+        JButton clearButton = createButton("Usuń zakończone");
+
+        pauseButton.addActionListener(e -> selectedEntries().forEach(this::pause));
+        resumeButton.addActionListener(e -> selectedEntries().forEach(this::resume));
+        cancelButton.addActionListener(e -> selectedEntries().forEach(this::cancel));
+        retryButton.addActionListener(e -> selectedEntries().forEach(this::retry));
+        clearButton.addActionListener(e -> model.removeFinished());
+
+        buttons.add(pauseButton);
+        buttons.add(resumeButton);
+        buttons.add(cancelButton);
+        buttons.add(retryButton);
+        buttons.add(clearButton);
+
+        summaryText.setFont(new Font(Font.SANS_SERIF, Font.ITALIC, 11));
+        bar.add(buttons, BorderLayout.NORTH);
+        bar.add(summaryText, BorderLayout.SOUTH);
+        return bar;
+    }
+
+    /**
+     * @brief Tworzy przycisk z zachowaniem wyglądu aplikacji
+     *
+     * @param text Tekst przycisku
+     * @return JButton - przycisk z zastosowanym stylem
+     */
+    private static JButton createButton(String text) {
+        JButton button = new JButton(text);
+        button.setBackground(BUTTON_COLOR);
+        button.setForeground(Color.WHITE);
+        button.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 11));
+        button.setFocusPainted(false);
+        button.setBorderPainted(false);
+        button.setOpaque(true);
+        return button;
+    }
+
+    /**
+     * @brief Obsługuje wybór plików i folderów przez okno dialogowe
+     */
+    private void handleFileBrowsing() {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setFileSelectionMode(JFileChooser.FILES_AND_DIRECTORIES);
+        fileChooser.setMultiSelectionEnabled(true);
+        fileChooser.setFileFilter(new javax.swing.filechooser.FileNameExtensionFilter("Pliki PDF", "pdf"));
+        fileChooser.setDialogTitle("Wybierz dokumenty PDF lub foldery");
+
+        if (fileChooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION) {
+            addFiles(List.of(fileChooser.getSelectedFiles()));
+        }
+    }
+
+    /**
+     * @brief Odszyfrowuje klucz prywatny i przekazuje oczekujące wiersze do puli wątków
+     *
+     * Odszyfrowanie odbywa się w tle, aby nie blokować wątku EDT.
+     * Po jego zakończeniu PIN jest czyszczony, a klucz zostaje zapamiętany
+     * dla plików dodanych później.
+     */
+    private void handleQueueStart() {
+        if (signer != null) {
+            model.entries().forEach(this::submit);
+            return;
+        }
+
+        String pin = new String(pinField.getPassword());
+        if (pin.isEmpty()) {
+            setSummary("Błąd: Wprowadź PIN", Color.RED);
+            return;
+        }
+
+        setSummary("Odszyfrowywanie klucza prywatnego...", Color.BLUE);
+        new SwingWorker<PrivateKey, Void>() {
+            @Override
+            protected PrivateKey doInBackground() throws Exception {
+                return PdfSigner.unlockPrivateKey(pin);
+            }
+
+            @Override
+            protected void done() {
+                pinField.setText("");
+                try {
+                    signer = new Signer(get());
+                    pinField.setEnabled(false);
+                    startNanos = System.nanoTime();
+                    model.entries().forEach(SigningQueuePanel.this::submit);
+                    setSummary("Podpisywanie...", Color.BLUE);
+                } catch (Exception e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    setSummary("Błąd odszyfrowania klucza (sprawdź PIN i nośnik): " + cause.getMessage(), Color.RED);
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * @brief Dodaje pliki i zawartość folderów do kolejki
+     *
+     * Foldery są przeszukiwane rekurencyjnie w tle w poszukiwaniu plików .pdf.
+     *
+     * @param files Pliki lub foldery do dodania
+     */
+    private void addFiles(List<File> files) {
+        new SwingWorker<Void, File>() {
+            @Override
+            protected Void doInBackground() throws IOException {
+                for (File file : files) {
+                    if (file.isDirectory()) {
+                        try (Stream<Path> paths = Files.walk(file.toPath())) {
+                            paths.filter(Files::isRegularFile)
+                                    .map(Path::toFile)
+                                    .filter(SigningQueuePanel::isPdf)
+                                    .map(SigningQueuePanel::canonical)
+                                    .forEach(this::publish);
+                        }
+                    } else if (isPdf(file)) {
+                        publish(canonical(file));
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            protected void process(List<File> chunk) {
+                for (File file : chunk) {
+                    Entry entry = new Entry(file);
+                    if (model.add(entry)) {
+                        submit(entry);
+                    }
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * @brief Sprawdza, czy plik ma rozszerzenie .pdf
+     *
+     * @param file Plik do sprawdzenia
+     * @return true - jeśli plik jest dokumentem PDF
+     */
+    private static boolean isPdf(File file) {
+        return file.getName().toLowerCase(Locale.ROOT).endsWith(".pdf");
+    }
+
+    /**
+     * @brief Zwraca kanoniczną postać pliku, aby ten sam dokument nie trafił do kolejki dwa razy
+     *
+     * @param file Plik do sprawdzenia
+     * @return File - plik kanoniczny lub bezwzględny, jeśli nie da się go ustalić
+     */
+    private static File canonical(File file) {
+        try {
+            return file.getCanonicalFile();
+        } catch (IOException e) {
+            return file.getAbsoluteFile();
+        }
+    }
+
+    /**
+     * @brief Przekazuje oczekujący wiersz do puli wątków, jeśli klucz jest już odszyfrowany
+     *
+     * Wiersz, którego poprzednia próba jest nadal wykonywana (np. anulowana i ponowiona
+     * w trakcie podpisywania), nie jest przekazywany - zrobi to zadanie po zakończeniu.
+     *
+     * @param entry Wiersz kolejki
+     */
+    private void submit(Entry entry) {
+        Future<?> previous = entry.task;
+        if (signer != null && entry.state.get() == State.QUEUED && !entry.inFlight.get()
+                && (previous == null || previous.isDone())) {
+            int attempt = ++entry.attempt;
+            entry.task = workers.submit(() -> sign(entry, attempt));
+        }
+    }
+
+    /**
+     * @brief Podpisuje dokument z wiersza kolejki (wykonywane w wątku roboczym)
+     *
+     * Wiersz wstrzymany lub anulowany przed rozpoczęciem jest pomijany. Jeśli wiersz
+     * został ponowiony w trakcie podpisywania, po zakończeniu jest przekazywany ponownie.
+     *
+     * @param entry Wiersz kolejki
+     * @param attempt Numer próby nadany przy przekazaniu do puli
+     */
+    private void sign(Entry entry, int attempt) {
+        if (!entry.inFlight.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (!entry.state.compareAndSet(State.QUEUED, State.RUNNING)) {
+                return;
+            }
+            running.incrementAndGet();
+            dirty.set(true);
+            try {
+                long length = entry.file.length();
+                SignatureResult result = signer.sign(entry.file.toPath());
+                boolean success = result.isSuccess();
+                long elapsed = Math.max(1, result.getElapsedNanos());
+
+                if (entry.attempt == attempt && entry.state.get() == State.RUNNING) {
+                    entry.bytesPerSecond = length * 1e9 / elapsed;
+                    entry.result = success
+                            ? String.format(Locale.ROOT, "OK (%.0f ms)", elapsed / 1e6)
+                            : result.getMessage();
+                    entry.state.compareAndSet(State.RUNNING, success ? State.SIGNED : State.FAILED);
+                }
+                if (success) {
+                    totalBytes.addAndGet(length);
+                }
+            } catch (RuntimeException | Error e) {
+                if (entry.attempt == attempt && entry.state.get() == State.RUNNING) {
+                    entry.result = "Nieoczekiwany błąd: " + e;
+                    entry.state.compareAndSet(State.RUNNING, State.FAILED);
+                }
+                throw e;
+            } finally {
+                running.decrementAndGet();
+                dirty.set(true);
+            }
+        } finally {
+            entry.inFlight.set(false);
+            if (entry.state.get() == State.QUEUED) {
+                SwingUtilities.invokeLater(() -> submit(entry));
+            }
+        }
+    }
+
+    /**
+     * @brief Wstrzymuje wiersz, który jeszcze nie rozpoczął podpisywania
+     *
+     * @param entry Wiersz kolejki
+     */
+    private void pause(Entry entry) {
+        if (entry.state.compareAndSet(State.QUEUED, State.PAUSED)) {
+            cancelTask(entry);
+        }
+    }
+
+    /**
+     * @brief Wznawia wstrzymany wiersz
+     *
+     * @param entry Wiersz kolejki
+     */
+    private void resume(Entry entry) {
+        if (entry.state.compareAndSet(State.PAUSED, State.QUEUED)) {
+            submit(entry);
+        }
+    }
+
+    /**
+     * @brief Anuluje wiersz oczekujący, wstrzymany lub w trakcie podpisywania
+     *
+     * @param entry Wiersz kolejki
+     *
+     * @note Podpisywanie w toku nie jest przerywane (przerwanie zapisu mogłoby
+     *       zostawić obcięty plik .sig) - jego wynik jest pomijany, a plik .sig
+     *       może zostać zapisany mimo anulowania
+     */
+    private void cancel(Entry entry) {
+        State state = entry.state.get();
+        if ((state == State.QUEUED || state == State.PAUSED || state == State.RUNNING)
+                && entry.state.compareAndSet(state, State.CANCELLED)) {
+            cancelTask(entry);
+            entry.result = "Anulowano";
+        }
+    }
+
+    /**
+     * @brief Ponawia podpisywanie wiersza zakończonego błędem lub anulowanego
+     *
+     * @param entry Wiersz kolejki
+     */
+    private void retry(Entry entry) {
+        State state = entry.state.get();
+        if ((state == State.FAILED || state == State.CANCELLED)
+                && entry.state.compareAndSet(state, State.QUEUED)) {
+            entry.result = "";
+            submit(entry);
+        }
+    }
+
+    /**
+     * @brief Usuwa z puli wątków zadanie wiersza, które jeszcze się nie rozpoczęło
+     *
+     * Wątek wykonujący już zadanie nie jest przerywany - wynik anulowanej próby
+     * odrzuca sprawdzenie numeru próby i stanu w sign().
+     *
+     * @param entry Wiersz kolejki
+     */
+    private void cancelTask(Entry entry) {
+        Future<?> task = entry.task;
+        if (task != null) {
+            task.cancel(false);
+        }
+        dirty.set(true);
+    }
+
+    /**
+     * @brief Zwraca wiersze zaznaczone w tabeli
+     *
+     * @return List - zaznaczone wiersze kolejki
+     */
+    private List<Entry> selectedEntries() {
+        List<Entry> selected = new ArrayList<>();
+        for (int row : table.getSelectedRows()) {
+            selected.add(model.get(table.convertRowIndexToModel(row)));
+        }
+        return selected;
+    }
+
+    /**
+     * @brief Odświeża tabelę i podsumowanie, jeśli stan kolejki się zmienił
+     */
+    private void refresh() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+        model.fireTableRowsUpdated(0, Math.max(0, model.getRowCount() - 1));
+
+        int signed = 0;
+        int failed = 0;
+        for (Entry entry : model.entries()) {
+            State state = entry.state.get();
+            if (state == State.SIGNED) signed++;
+            if (state == State.FAILED) failed++;
+        }
+        double seconds = Math.max(1e-3, (System.nanoTime() - startNanos) / 1e9);
+        setSummary(String.format(Locale.ROOT, "Podpisano %d z %d, błędy: %d, w toku: %d, łącznie %.1f MB/s",
+                        signed, model.getRowCount(), failed, running.get(), totalBytes.get() / 1048576.0 / seconds),
+                failed > 0 ? Color.RED : new Color(0, 128, 0));
+    }
+
+    /**
+     * @brief Ustawia tekst i kolor etykiety podsumowania
+     *
+     * @param text Tekst komunikatu
+     * @param color Kolor tekstu
+     */
+    private void setSummary(String text, Color color) {
+        summaryText.setText(text);
+        summaryText.setForeground(color);
+    }
+
+    /**
+     * @brief Przyjmuje pliki i foldery przeciągnięte do panelu
+     */
+    private final class FileDropHandler extends TransferHandler {
+
+        @Override
+        public boolean canImport(TransferSupport support) {
+            return support.isDataFlavorSupported(DataFlavor.javaFileListFlavor);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean importData(TransferSupport support) {
+            if (!canImport(support)) {
+                return false;
+            }
+            try {
+                addFiles((List<File>) support.getTransferable().getTransferData(DataFlavor.javaFileListFlavor));
+                return true;
+            } catch (Exception e) {
+                setSummary("Błąd: Nie udało się dodać plików: " + e.getMessage(), Color.RED);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * @brief Model tabeli przechowujący wiersze kolejki (modyfikowany tylko w wątku EDT)
+     */
+    private static final class QueueTableModel extends AbstractTableModel {
+
+        /** @brief Nagłówki kolumn */
+        private static final String[] COLUMNS = {"Plik", "Stan", "Przepustowość", "Wynik"};
+
+        /** @brief Wiersze kolejki */
+        private final List<Entry> entries = new ArrayList<>();
+
+        /** @brief Kanoniczne ścieżki plików obecnych w kolejce */
+        private final Set<String> paths = new HashSet<>();
+
+        /**
+         * @brief Dodaje wiersz, jeśli jego plik nie znajduje się już w kolejce
+         *
+         * @param entry Wiersz z plikiem w postaci kanonicznej
+         * @return true - jeśli wiersz został dodany
+         */
+        boolean add(Entry entry) {
+            if (!paths.add(entry.file.getPath())) {
+                return false;
+            }
+            entries.add(entry);
+            fireTableRowsInserted(entries.size() - 1, entries.size() - 1);
+            return true;
+        }
+
+        Entry get(int row) {
+            return entries.get(row);
+        }
+
+        List<Entry> entries() {
+            return new ArrayList<>(entries);
+        }
+
+        void removeFinished() {
+            entries.removeIf(entry -> {
+                State state = entry.state.get();
+                boolean finished = (state == State.SIGNED || state == State.CANCELLED) && !entry.inFlight.get();
+                if (finished) {
+                    paths.remove(entry.file.getPath());
+                }
+                return finished;
+            });
+            fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return entries.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            Entry entry = entries.get(row);
+            switch (column) {
+                case 0: return entry.file.getAbsolutePath();
+                case 1: return entry.state.get().label;
+                case 2: return entry.bytesPerSecond > 0
+                        ? String.format(Locale.ROOT, "%.1f MB/s", entry.bytesPerSecond / 1048576.0)
+                        : "";
+                default: return entry.result;
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package org.example;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.security.interfaces.RSAPublicKey;
+
+/**
+ * @file Verifier.java
+ * @brief Wielokrotnego użytku obiekt weryfikujący podpisy dokumentów PDF jednym kluczem publicznym
+ *
+ * Klasa Verifier jest przeznaczona do osadzania w usługach, które weryfikują wiele dokumentów.
+ * Odcisk klucza (do sprawdzania listy unieważnionych kluczy) i oczekiwana długość podpisu
+ * są obliczane raz w konstruktorze. Brakujący plik, brakujący podpis i podpis o złej długości
+ * są wykrywane bez zgłaszania wyjątków. Instancja jest bezpieczna wątkowo.
+ *
+ * @code
+ * Verifier verifier = new Verifier(PdfSigner.loadPublicKey());
+ * SignatureResult result = verifier.verify(Paths.get("dokument.pdf"));
+ * @endcode
+ *
+ * @see Signer
+ * @see PdfSigner#verify(String)
+ */
+public final class Verifier {
+
+    /** @brief Klucz publiczny RSA */
+    private final PublicKey publicKey;
+
+    /** @brief Odcisk klucza publicznego */
+    private final byte[] fingerprint;
+
+    /** @brief Oczekiwana długość podpisu w bajtach lub -1, jeśli nieznana */
+    private final int signatureLength;
+
+    /** @brief Lista unieważnionych kluczy */
+    private final RevocationList revocationList;
+
+    /**
+     * @brief Tworzy obiekt weryfikujący korzystający z listy unieważnionych kluczy PdfSigner
+     *
+     * @param publicKey Klucz publiczny RSA
+     *
+     * @see PdfSigner#reloadRevocationList(String)
+     */
+    public Verifier(PublicKey publicKey) {
+        this(publicKey, PdfSigner.revocationList());
+    }
+
+    /**
+     * @brief Tworzy obiekt weryfikujący z własną listą unieważnionych kluczy
+     *
+     * @param publicKey Klucz publiczny RSA
+     * @param revocationList Lista unieważnionych kluczy
+     */
+    public Verifier(PublicKey publicKey, RevocationList revocationList) {
+        this.publicKey = publicKey;
+        this.fingerprint = KeyCodec.fingerprint(publicKey);
+        this.signatureLength = publicKey instanceof RSAPublicKey
+                ? (((RSAPublicKey) publicKey).getModulus().bitLength() + 7) / 8
+                : -1;
+        this.revocationList = revocationList;
+    }
+
+    /**
+     * @brief Weryfikuje podpis dokumentu PDF zapisany w pliku {filePath}.sig
+     *
+     * @param pdfFile Ścieżka do pliku PDF
+     * @return SignatureResult - VALID, INVALID, MISSING_SIGNATURE, REVOKED, IO_ERROR lub ERROR
+     *         (również gdy lista unieważnionych kluczy nie została poprawnie wczytana)
+     *         wraz z czasem trwania
+     */
+    public SignatureResult verify(Path pdfFile) {
+        long start = System.nanoTime();
+        String revocationFailure = revocationList.getFailure();
+        if (revocationFailure != null) {
+            return new SignatureResult(SignatureResult.Status.ERROR, System.nanoTime() - start,
+                    "Lista unieważnionych kluczy jest niedostępna (" + revocationFailure + ")");
+        }
+        if (revocationList.isRevoked(fingerprint)) {
+            return new SignatureResult(SignatureResult.Status.REVOKED, System.nanoTime() - start, null);
+        }
+        if (!Files.isRegularFile(pdfFile)) {
+            return new SignatureResult(SignatureResult.Status.IO_ERROR, System.nanoTime() - start,
+                    "Plik nie istnieje");
+        }
+        Path signatureFile = PdfSigner.signaturePath(pdfFile);
+        if (!Files.isRegularFile(signatureFile)) {
+            return new SignatureResult(SignatureResult.Status.MISSING_SIGNATURE, System.nanoTime() - start, null);
+        }
+
+        try {
+            byte[] signatureBytes = Files.readAllBytes(signatureFile);
+            if (signatureLength > 0 && signatureBytes.length != signatureLength) {
+                return new SignatureResult(SignatureResult.Status.INVALID, System.nanoTime() - start, null);
+            }
+
+            byte[] pdfHash = PdfSigner.hashFile(pdfFile);
+
+            Signature signature = CryptoPrimitives.verifySignature();
+            signature.initVerify(publicKey);
+            signature.update(pdfHash);
+            SignatureResult.Status status = signature.verify(signatureBytes)
+                    ? SignatureResult.Status.VALID
+                    : SignatureResult.Status.INVALID;
+            return new SignatureResult(status, System.nanoTime() - start, null);
+
+        } catch (IOException e) {
+            return new SignatureResult(SignatureResult.Status.IO_ERROR, System.nanoTime() - start, e.getMessage());
+        } catch (SignatureException e) {
+            // podpis o niepoprawnej strukturze - nie pasuje do dokumentu ani klucza
+            return new SignatureResult(SignatureResult.Status.INVALID, System.nanoTime() - start, e.getMessage());
+        } catch (GeneralSecurityException e) {
+            // np. InvalidKeyException z initVerify - problem z kluczem, a nie z podpisem
+            return new SignatureResult(SignatureResult.Status.ERROR, System.nanoTime() - start, e.getMessage());
+        }
+    }
+
+    /**
+     * @brief Weryfikuje podpis dokumentu PDF o podanej ścieżce
+     *
+     * @param filePath Ścieżka do pliku PDF
+     * @return SignatureResult - wynik operacji
+     *
+     * @see #verify(Path)
+     */
+    public SignatureResult verify(String filePath) {
+        return verify(Paths.get(filePath));
+    }
+}